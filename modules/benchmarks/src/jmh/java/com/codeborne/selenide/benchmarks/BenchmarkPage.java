@@ -0,0 +1,53 @@
+package com.codeborne.selenide.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.benchmarks.StubElement.element;
+
+/**
+ * The page used by all benchmarks: a login form and a list of items.
+ */
+final class BenchmarkPage {
+  static final int ITEMS_COUNT = 50;
+
+  private BenchmarkPage() {
+  }
+
+  static StubElement body() {
+    StubElement form = element("form").id("login").append(
+      row(element("label").text("Username"), element("input").id("username").attribute("value", "bob")),
+      row(element("label").text("Password"), element("input").id("password").attribute("type", "password")),
+      row(element("input").id("remember").attribute("type", "checkbox").attribute("checked", "true")),
+      row(element("button").id("submit").text("Log in"))
+    );
+
+    StubElement list = element("ul").id("items");
+    for (String text : itemTexts()) {
+      StubElement item = element("li").cssClass("item").text(text);
+      list.append(list.childrenCount() % 5 == 0 ? item.cssClass("active") : item);
+    }
+
+    return element("body").append(
+      element("h1").text("Benchmark"),
+      form,
+      list,
+      element("div").id("spinner").cssClass("loading").hidden()
+    );
+  }
+
+  private static StubElement row(StubElement... children) {
+    return element("div").cssClass("row").append(children);
+  }
+
+  /**
+   * @return texts of list items ({@code "#items li"})
+   */
+  static List<String> itemTexts() {
+    List<String> texts = new ArrayList<>(ITEMS_COUNT);
+    for (int i = 0; i < ITEMS_COUNT; i++) {
+      texts.add("Item #" + i + "   with  some spaces");
+    }
+    return texts;
+  }
+}
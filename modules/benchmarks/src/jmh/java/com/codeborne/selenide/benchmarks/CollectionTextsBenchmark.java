@@ -0,0 +1,63 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.ElementsCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.CollectionCondition.exactTexts;
+import static com.codeborne.selenide.CollectionCondition.textsInAnyOrder;
+import static java.util.Collections.reverse;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Checking texts of a collection with {@link com.codeborne.selenide.collections.ExactTexts}
+ * and {@link com.codeborne.selenide.collections.TextsInAnyOrder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CollectionTextsBenchmark {
+  private ElementsCollection items;
+  private List<String> texts;
+  private List<String> reversedTexts;
+
+  @Setup
+  public void setUp(StubBrowser browser) {
+    items = browser.driver.$$("#items li");
+    texts = BenchmarkPage.itemTexts();
+    reversedTexts = new ArrayList<>(texts);
+    reverse(reversedTexts);
+  }
+
+  @Benchmark
+  public List<String> texts(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    List<String> actualTexts = items.texts();
+    browser.countRoundTrips(roundTrips, before);
+    return actualTexts;
+  }
+
+  @Benchmark
+  public ElementsCollection exactTextsCheck(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    ElementsCollection result = items.shouldHave(exactTexts(texts));
+    browser.countRoundTrips(roundTrips, before);
+    return result;
+  }
+
+  @Benchmark
+  public ElementsCollection textsInAnyOrderCheck(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    ElementsCollection result = items.shouldHave(textsInAnyOrder(reversedTexts));
+    browser.countRoundTrips(roundTrips, before);
+    return result;
+  }
+}
@@ -0,0 +1,70 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Overhead of calling methods of {@link SelenideElement} (via {@link com.codeborne.selenide.impl.SelenideElementProxy})
+ * compared to calling the same method of {@link WebElement} directly.
+ *
+ * <p>
+ *   Every call via proxy also finds the element (one more round trip),
+ *   so the dispatch overhead is {@code webElementMethodViaProxy - 2 * webElementDirectly} with zero latency.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ElementDispatchBenchmark {
+  private SelenideElement element;
+  private WebElement webElement;
+
+  @Setup
+  public void setUp(StubBrowser browser) {
+    element = browser.driver.$("#username");
+    webElement = browser.webDriver.findElement(By.id("username"));
+  }
+
+  @Benchmark
+  public String webElementDirectly(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String tagName = webElement.getTagName();
+    browser.countRoundTrips(roundTrips, before);
+    return tagName;
+  }
+
+  @Benchmark
+  public String webElementMethodViaProxy(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String tagName = element.getTagName();
+    browser.countRoundTrips(roundTrips, before);
+    return tagName;
+  }
+
+  @Benchmark
+  public String selenideCommand(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String value = element.getValue();
+    browser.countRoundTrips(roundTrips, before);
+    return value;
+  }
+
+  @Benchmark
+  public SelenideElement assertion(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    SelenideElement result = element.shouldBe(visible);
+    browser.countRoundTrips(roundTrips, before);
+    return result;
+  }
+}
@@ -0,0 +1,57 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.WebElement;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Resolving chains of elements ({@code $("#parent").$(".child", 2).$("input")})
+ * by {@link com.codeborne.selenide.impl.ElementFinder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ElementFinderBenchmark {
+  private SelenideElement chain;
+  private SelenideElement collectionElement;
+
+  @Setup
+  public void setUp(StubBrowser browser) {
+    chain = browser.driver.$("#login").$(".row", 2).$("input");
+    collectionElement = browser.driver.$$("#items li").get(42);
+  }
+
+  @Benchmark
+  public WebElement resolveChain(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    WebElement webElement = chain.toWebElement();
+    browser.countRoundTrips(roundTrips, before);
+    return webElement;
+  }
+
+  @Benchmark
+  public WebElement buildAndResolveChain(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    SelenideDriver driver = browser.driver;
+    WebElement webElement = driver.$("#login").$(".row", 2).$("input").toWebElement();
+    browser.countRoundTrips(roundTrips, before);
+    return webElement;
+  }
+
+  @Benchmark
+  public WebElement resolveCollectionElement(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    WebElement webElement = collectionElement.toWebElement();
+    browser.countRoundTrips(roundTrips, before);
+    return webElement;
+  }
+}
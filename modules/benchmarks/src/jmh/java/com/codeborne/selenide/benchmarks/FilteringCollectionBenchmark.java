@@ -0,0 +1,56 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.ElementsCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Filtering a collection ({@link com.codeborne.selenide.impl.FilteringCollection}):
+ * checks the filter condition for every element of {@link BenchmarkPage#ITEMS_COUNT} items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class FilteringCollectionBenchmark {
+  private ElementsCollection activeItems;
+  private ElementsCollection visibleItems;
+
+  @Setup
+  public void setUp(StubBrowser browser) {
+    activeItems = browser.driver.$$("#items li").filter(cssClass("active"));
+    visibleItems = browser.driver.$$("#items li").filter(visible);
+  }
+
+  @Benchmark
+  public int sizeOfFiltered(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    int size = activeItems.size();
+    browser.countRoundTrips(roundTrips, before);
+    return size;
+  }
+
+  @Benchmark
+  public String firstOfFiltered(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String text = activeItems.first().getText();
+    browser.countRoundTrips(roundTrips, before);
+    return text;
+  }
+
+  @Benchmark
+  public String lastOfFiltered(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String text = visibleItems.last().getText();
+    browser.countRoundTrips(roundTrips, before);
+    return text;
+  }
+}
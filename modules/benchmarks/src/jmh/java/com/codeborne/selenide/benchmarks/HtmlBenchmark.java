@@ -0,0 +1,38 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.impl.Html;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@link Html#reduceSpaces(String)} is called (twice) for every text comparison in text conditions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+public class HtmlBenchmark {
+  private final String shortText = "Hello, world";
+  private final String textWithSpaces = "  Hello,   world \n\t and\u00a0\u00a0everybody else  ";
+  private final String longText = "Lorem ipsum  dolor sit amet,\n consectetur adipiscing elit. ".repeat(100);
+
+  @Benchmark
+  public String shortText() {
+    return Html.text.reduceSpaces(shortText);
+  }
+
+  @Benchmark
+  public String textWithSpaces() {
+    return Html.text.reduceSpaces(textWithSpaces);
+  }
+
+  @Benchmark
+  public String longText() {
+    return Html.text.reduceSpaces(longText);
+  }
+}
@@ -0,0 +1,66 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.Container;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Creating page objects with {@link com.codeborne.selenide.impl.SelenidePageFactory}.
+ * Fields are initialized lazily, so creating a page should not need any WebDriver calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class PageFactoryBenchmark {
+  @Benchmark
+  public LoginPage createPage(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    LoginPage page = browser.driver.page(LoginPage.class);
+    browser.countRoundTrips(roundTrips, before);
+    return page;
+  }
+
+  @Benchmark
+  public String createPageAndReadField(StubBrowser browser, RoundTrips roundTrips) {
+    long before = browser.commands();
+    String value = browser.driver.page(LoginPage.class).form.username.getValue();
+    browser.countRoundTrips(roundTrips, before);
+    return value;
+  }
+
+  public static class LoginPage {
+    @FindBy(tagName = "h1")
+    public SelenideElement header;
+
+    @FindBy(id = "login")
+    public LoginForm form;
+
+    @FindBy(css = "#items li")
+    public ElementsCollection items;
+
+    @FindBy(css = "#items li.active")
+    public List<SelenideElement> activeItems;
+  }
+
+  public static class LoginForm implements Container {
+    @FindBy(id = "username")
+    public SelenideElement username;
+
+    @FindBy(id = "password")
+    public SelenideElement password;
+
+    @FindBy(id = "submit")
+    public SelenideElement submit;
+  }
+}
@@ -0,0 +1,80 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
+import com.codeborne.selenide.impl.ElementCommunicator;
+import com.codeborne.selenide.impl.Plugins;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Contention on {@link Plugins#inject(Class)} and {@link Commands#getInstance()} when many tests run in parallel.
+ *
+ * <p>
+ *   Both are called on every element creation and every element command.
+ *   Compare "single thread" and "parallel" results: without contention, the time per operation should be about the same.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+public class PluginLookupBenchmark {
+  private static final int PARALLEL_THREADS = 32;
+
+  private SelenideDriver driver;
+
+  @Setup
+  public void setUp() {
+    driver = new SelenideDriver(new SelenideConfig(), new StubWebDriver(0, BenchmarkPage.body()), null);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ElementCommunicator injectPlugin_singleThread() {
+    return Plugins.inject(ElementCommunicator.class);
+  }
+
+  @Benchmark
+  @Threads(PARALLEL_THREADS)
+  public ElementCommunicator injectPlugin_parallel() {
+    return Plugins.inject(ElementCommunicator.class);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Commands getCommands_singleThread() {
+    return Commands.getInstance();
+  }
+
+  @Benchmark
+  @Threads(PARALLEL_THREADS)
+  public Commands getCommands_parallel() {
+    return Commands.getInstance();
+  }
+
+  /**
+   * Creating an element (without finding it) initializes an {@link com.codeborne.selenide.impl.ElementFinder}
+   * which injects plugins.
+   */
+  @Benchmark
+  @Threads(1)
+  public SelenideElement createElement_singleThread() {
+    return driver.$("#username");
+  }
+
+  @Benchmark
+  @Threads(PARALLEL_THREADS)
+  public SelenideElement createElement_parallel() {
+    return driver.$("#username");
+  }
+}
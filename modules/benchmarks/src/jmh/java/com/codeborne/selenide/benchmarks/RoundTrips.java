@@ -0,0 +1,31 @@
+package com.codeborne.selenide.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports WebDriver round trips next to the wall time of a benchmark.
+ *
+ * <p>
+ *   JMH reports both counters per iteration, so round trips per operation = {@code webDriverCalls / operations}.
+ *   Unlike the wall time, this number doesn't depend on hardware, so it's the first thing to compare
+ *   when checking a change for regressions.
+ * </p>
+ *
+ * @see StubBrowser#countRoundTrips(RoundTrips, long)
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class RoundTrips {
+  public long webDriverCalls;
+  public long operations;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    webDriverCalls = 0;
+    operations = 0;
+  }
+}
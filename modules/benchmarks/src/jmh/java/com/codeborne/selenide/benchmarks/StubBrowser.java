@@ -0,0 +1,53 @@
+package com.codeborne.selenide.benchmarks;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Selenide driver running {@link BenchmarkPage} in {@link StubWebDriver} (one per benchmark thread).
+ *
+ * <p>
+ *   Every benchmark runs twice: without latency (to measure pure Selenide overhead)
+ *   and with latency of a typical local browser (to see how round trips dominate the wall time).
+ * </p>
+ */
+@State(Scope.Thread)
+public class StubBrowser {
+  @Param({"0", "100"})
+  public long latencyMicros;
+
+  public StubWebDriver webDriver;
+  public SelenideDriver driver;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    webDriver = new StubWebDriver(latencyMicros, BenchmarkPage.body());
+    SelenideConfig config = new SelenideConfig()
+      .timeout(1000)
+      .screenshots(false)
+      .savePageSource(false);
+    driver = new SelenideDriver(config, webDriver, null);
+  }
+
+  /**
+   * @return number of WebDriver commands executed by this browser so far
+   */
+  public long commands() {
+    return webDriver.commands();
+  }
+
+  /**
+   * Count WebDriver commands executed by a single benchmark operation
+   *
+   * @param commandsBefore {@link #commands()} before the operation
+   */
+  public void countRoundTrips(RoundTrips roundTrips, long commandsBefore) {
+    roundTrips.webDriverCalls += webDriver.commands() - commandsBefore;
+    roundTrips.operations++;
+  }
+}
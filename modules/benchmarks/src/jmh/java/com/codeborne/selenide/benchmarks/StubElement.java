@@ -0,0 +1,324 @@
+package com.codeborne.selenide.benchmarks;
+
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchShadowRootException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An element of {@link StubWebDriver} page.
+ *
+ * <p>
+ *   Supports only simple CSS selectors: tag names, ids and classes
+ *   (like {@code "ul#menu li.active"}), combined with descendant combinator.
+ * </p>
+ */
+public class StubElement implements WebElement {
+  private static final Pattern COMPOUND_SELECTOR = Pattern.compile("(\\*|[a-zA-Z][\\w-]*)?((?:[#.][\\w-]+)*)");
+  private static final Pattern ID_OR_CLASS = Pattern.compile("([#.])([\\w-]+)");
+
+  private final String tagName;
+  private final Map<String, String> attributes = new LinkedHashMap<>();
+  private final List<StubElement> children = new ArrayList<>();
+  private String text = "";
+  private boolean displayed = true;
+  @Nullable
+  private StubElement parent;
+  @Nullable
+  private StubWebDriver driver;
+
+  public StubElement(String tagName) {
+    this.tagName = tagName;
+  }
+
+  public static StubElement element(String tagName) {
+    return new StubElement(tagName);
+  }
+
+  public StubElement id(String id) {
+    return attribute("id", id);
+  }
+
+  public StubElement cssClass(String cssClass) {
+    String classes = attributes.get("class");
+    return attribute("class", classes == null ? cssClass : classes + " " + cssClass);
+  }
+
+  public StubElement attribute(String name, String value) {
+    attributes.put(name, value);
+    return this;
+  }
+
+  public StubElement text(String text) {
+    this.text = text;
+    return this;
+  }
+
+  public StubElement hidden() {
+    this.displayed = false;
+    return this;
+  }
+
+  public StubElement append(StubElement... elements) {
+    for (StubElement child : elements) {
+      child.parent = this;
+      children.add(child);
+    }
+    return this;
+  }
+
+  int childrenCount() {
+    return children.size();
+  }
+
+  void attachTo(StubWebDriver driver) {
+    this.driver = driver;
+    for (StubElement child : children) {
+      child.attachTo(driver);
+    }
+  }
+
+  private void roundTrip() {
+    requireNonNull(driver, () -> "Element is not attached to a driver: " + this).roundTrip();
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    roundTrip();
+    return search(by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    roundTrip();
+    List<WebElement> found = search(by);
+    if (found.isEmpty()) {
+      throw new NoSuchElementException("Unable to locate element: " + by);
+    }
+    return found.get(0);
+  }
+
+  private List<WebElement> search(By by) {
+    List<String[]> selector = parse(by);
+    List<WebElement> result = new ArrayList<>();
+    collectDescendants(selector, result);
+    return result;
+  }
+
+  private void collectDescendants(List<String[]> selector, List<WebElement> result) {
+    for (StubElement child : children) {
+      if (child.matches(selector)) {
+        result.add(child);
+      }
+      child.collectDescendants(selector, result);
+    }
+  }
+
+  private boolean matches(List<String[]> selector) {
+    if (!matches(selector.get(selector.size() - 1))) return false;
+
+    int i = selector.size() - 2;
+    for (StubElement ancestor = parent; ancestor != null && i >= 0; ancestor = ancestor.parent) {
+      if (ancestor.matches(selector.get(i))) i--;
+    }
+    return i < 0;
+  }
+
+  private boolean matches(String[] compound) {
+    String tag = compound[0];
+    if (tag != null && !tag.equals("*") && !tag.equalsIgnoreCase(tagName)) return false;
+
+    for (int i = 1; i < compound.length; i++) {
+      String part = compound[i];
+      String name = part.substring(1);
+      boolean ok = part.charAt(0) == '#' ? name.equals(attributes.get("id")) : hasClass(name);
+      if (!ok) return false;
+    }
+    return true;
+  }
+
+  private boolean hasClass(String cssClass) {
+    String classes = attributes.get("class");
+    return classes != null && List.of(classes.split(" ")).contains(cssClass);
+  }
+
+  /**
+   * @return compound selectors: every one is [tag name or null, "#id" or ".class"...]
+   */
+  private static List<String[]> parse(By by) {
+    if (!(by instanceof By.Remotable remotable)) {
+      throw new InvalidSelectorException("Unsupported selector: " + by);
+    }
+    By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+    String value = String.valueOf(parameters.value()).trim();
+    return switch (parameters.using()) {
+      case "css selector" -> parseCss(value);
+      case "tag name" -> List.<String[]>of(new String[]{value});
+      default -> throw new InvalidSelectorException("Unsupported selector: " + by);
+    };
+  }
+
+  private static List<String[]> parseCss(String css) {
+    List<String[]> result = new ArrayList<>();
+    for (String compound : css.split("\\s+")) {
+      Matcher matcher = COMPOUND_SELECTOR.matcher(compound);
+      if (compound.isEmpty() || !matcher.matches()) {
+        throw new InvalidSelectorException("Unsupported CSS selector: " + css);
+      }
+      List<String> parts = new ArrayList<>();
+      parts.add(matcher.group(1));
+      Matcher idOrClass = ID_OR_CLASS.matcher(matcher.group(2));
+      while (idOrClass.find()) {
+        parts.add(idOrClass.group());
+      }
+      result.add(parts.toArray(new String[0]));
+    }
+    return result;
+  }
+
+  @Override
+  public void click() {
+    roundTrip();
+  }
+
+  @Override
+  public void submit() {
+    roundTrip();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    roundTrip();
+  }
+
+  @Override
+  public void clear() {
+    roundTrip();
+  }
+
+  @Override
+  public String getTagName() {
+    roundTrip();
+    return tagName;
+  }
+
+  @Override
+  @Nullable
+  public String getDomProperty(String name) {
+    roundTrip();
+    return attributes.get(name);
+  }
+
+  @Override
+  @Nullable
+  public String getDomAttribute(String name) {
+    roundTrip();
+    return attributes.get(name);
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("deprecation")
+  public String getAttribute(String name) {
+    roundTrip();
+    return attributes.get(name);
+  }
+
+  @Override
+  public boolean isSelected() {
+    roundTrip();
+    return attributes.containsKey("selected") || attributes.containsKey("checked");
+  }
+
+  @Override
+  public boolean isEnabled() {
+    roundTrip();
+    return !attributes.containsKey("disabled");
+  }
+
+  @Override
+  public String getText() {
+    roundTrip();
+    return displayed ? visibleText() : "";
+  }
+
+  private String visibleText() {
+    StringBuilder sb = new StringBuilder(text);
+    for (StubElement child : children) {
+      if (child.displayed) {
+        if (!sb.isEmpty()) sb.append('\n');
+        sb.append(child.visibleText());
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public SearchContext getShadowRoot() {
+    roundTrip();
+    throw new NoSuchShadowRootException("No shadow root in " + this);
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    roundTrip();
+    return displayed;
+  }
+
+  @Override
+  public Point getLocation() {
+    roundTrip();
+    return new Point(0, 0);
+  }
+
+  @Override
+  public Dimension getSize() {
+    roundTrip();
+    return new Dimension(100, 20);
+  }
+
+  @Override
+  public Rectangle getRect() {
+    roundTrip();
+    return new Rectangle(0, 0, 20, 100);
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    roundTrip();
+    return "display".equals(propertyName) && !displayed ? "none" : "";
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    throw new UnsupportedCommandException("Screenshots are not supported by " + getClass().getSimpleName());
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("<").append(tagName);
+    attributes.forEach((name, value) -> sb.append(' ').append(name).append("=\"").append(value).append('"'));
+    sb.append('>').append(text);
+    for (StubElement child : children) {
+      sb.append(child);
+    }
+    return sb.append("</").append(tagName).append('>').toString();
+  }
+}
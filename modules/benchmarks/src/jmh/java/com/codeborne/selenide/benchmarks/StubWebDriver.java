@@ -0,0 +1,134 @@
+package com.codeborne.selenide.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * In-memory {@link WebDriver} for benchmarks: it serves a static page built with {@link StubElement},
+ * and simulates a network round trip for every command.
+ *
+ * <p>
+ *   Every command (of the driver or any of its elements) increments the {@link #commands() commands counter}
+ *   and parks the calling thread for the configured latency - like a real remote browser does.
+ * </p>
+ *
+ * <p>
+ *   NB! It doesn't implement {@link org.openqa.selenium.JavascriptExecutor}, so Selenide uses plain WebDriver commands
+ *   (as it does for browsers without JavaScript support).
+ * </p>
+ */
+public class StubWebDriver implements WebDriver {
+  private final StubElement document;
+  private final long latencyMicros;
+  private final long latencyNanos;
+  private final AtomicLong commands = new AtomicLong();
+
+  /**
+   * @param latencyMicros simulated duration of every WebDriver command
+   * @param body          content of the page
+   */
+  public StubWebDriver(long latencyMicros, StubElement body) {
+    this.latencyMicros = latencyMicros;
+    this.latencyNanos = MICROSECONDS.toNanos(latencyMicros);
+    this.document = new StubElement("html").append(body);
+    document.attachTo(this);
+  }
+
+  /**
+   * @return number of WebDriver commands executed so far (by all threads)
+   */
+  public long commands() {
+    return commands.get();
+  }
+
+  void roundTrip() {
+    commands.incrementAndGet();
+    if (latencyNanos > 0) {
+      LockSupport.parkNanos(latencyNanos);
+    }
+  }
+
+  @Override
+  public void get(String url) {
+    roundTrip();
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    roundTrip();
+    return "https://selenide.org/benchmark.html";
+  }
+
+  @Override
+  public String getTitle() {
+    roundTrip();
+    return "Benchmark";
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return document.findElements(by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return document.findElement(by);
+  }
+
+  @Override
+  public String getPageSource() {
+    roundTrip();
+    return document.toString();
+  }
+
+  @Override
+  public void close() {
+    roundTrip();
+  }
+
+  @Override
+  public void quit() {
+    roundTrip();
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    roundTrip();
+    return Set.of("main");
+  }
+
+  @Override
+  public String getWindowHandle() {
+    roundTrip();
+    return "main";
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedCommandException("switchTo");
+  }
+
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedCommandException("navigate");
+  }
+
+  @Override
+  public Options manage() {
+    throw new UnsupportedCommandException("manage");
+  }
+
+  @Override
+  public String toString() {
+    return "StubWebDriver{latency: %s us, commands: %s}".formatted(latencyMicros, commands);
+  }
+}
@@ -0,0 +1,54 @@
+package com.codeborne.selenide.logevents;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Generating a text report of a test with {@link SimpleReport#generateReport(String, List)}.
+ * Every 5th step contains 4 nested steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class SimpleReportBenchmark {
+  @Param({"10", "1000"})
+  public int eventsCount;
+
+  private final SimpleReport report = new SimpleReport();
+  private final List<LogEvent> events = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    events.clear();
+    SelenideLog parent = null;
+    for (int i = 0; i < eventsCount; i++) {
+      SelenideLog event = new SelenideLog("#element-" + i, "should have text \"Item #" + i + "\" | with some | pipes");
+      events.add(event);
+      if (i % 5 == 0) {
+        if (parent != null) SelenideLogger.commitStep(parent, PASS);
+        parent = event;
+      }
+      else {
+        SelenideLogger.commitStep(event, PASS);
+      }
+    }
+    if (parent != null) SelenideLogger.commitStep(parent, PASS);
+  }
+
+  @Benchmark
+  public String generateReport() {
+    return report.generateReport("SimpleReportBenchmark", events);
+  }
+}
@@ -15,6 +15,31 @@ public interface ImageSource {
   void dispose();
 }
 
+/**
+ * PNG screenshot kept in memory (without writing it to a temporary file).
+ * It's decoded only when the video merger adds it to the video.
+ */
+record BytesImageSource(byte[] png) implements ImageSource {
+  @Override
+  public BufferedImage getImage() throws IOException {
+    try (InputStream in = new ByteArrayInputStream(png)) {
+      return ImageIO.read(in);
+    }
+  }
+
+  @Override
+  public void dispose() {
+  }
+
+  @Override
+  public String toString() {
+    return "png:" + png.length + " bytes";
+  }
+}
+
+/**
+ * PNG screenshot written to a temporary file (when too many screenshots are already kept in memory).
+ */
 record FileImageSource(File file) implements ImageSource {
   @Override
   public BufferedImage getImage() throws IOException {
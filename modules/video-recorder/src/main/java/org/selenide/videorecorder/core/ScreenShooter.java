@@ -1,6 +1,8 @@
 package org.selenide.videorecorder.core;
 
+import com.codeborne.selenide.Config;
 import com.codeborne.selenide.drivercommands.WebdriversRegistry;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -8,23 +10,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Queue;
 import java.util.TimerTask;
 
 import static java.lang.System.nanoTime;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.openqa.selenium.OutputType.FILE;
+import static org.openqa.selenium.OutputType.BYTES;
 import static org.selenide.videorecorder.core.Screenshot.endMarker;
 
+/**
+ * Takes screenshots and puts them to a queue.
+ *
+ * <p>
+ *   If a screenshot is identical to the previous one, it's skipped:
+ *   the previous frame is just shown longer in the video (until the next different screenshot).
+ * </p>
+ *
+ * <p>
+ *   Screenshots are kept in memory while the queue is shorter than {@code maxFramesInMemory}.
+ *   When it gets longer (the video merger doesn't keep up, or isn't started until the end of test),
+ *   next screenshots are written to temporary files. Screenshots are never dropped.
+ * </p>
+ */
 class ScreenShooter extends TimerTask {
   private static final Logger log = LoggerFactory.getLogger(ScreenShooter.class);
   private final long threadId;
   private final Queue<Screenshot> screenshots;
+  private final int maxFramesInMemory;
 
-  ScreenShooter(long threadId, Queue<Screenshot> screenshots) {
+  @Nullable
+  private Dimension windowSize;
+  private byte @Nullable [] lastFrame;
+  private int lastFrameHash;
+
+  ScreenShooter(long threadId, Queue<Screenshot> screenshots, int maxFramesInMemory) {
     this.threadId = threadId;
     this.screenshots = screenshots;
+    this.maxFramesInMemory = maxFramesInMemory;
   }
 
   @Override
@@ -33,18 +59,50 @@ class ScreenShooter extends TimerTask {
       long start = nanoTime();
       log.debug("Taking a screenshot for webdriver in thread {} at {} ...", threadId, start);
       WebDriver webDriver = driver.webDriver();
-      File screenshot = ((TakesScreenshot) webDriver).getScreenshotAs(FILE);
-      screenshot.deleteOnExit();
+      byte[] screenshot = ((TakesScreenshot) webDriver).getScreenshotAs(BYTES);
       long timestamp = nanoTime();
-      Dimension windowSize = screenshots.isEmpty() ? webDriver.manage().window().getSize() : new Dimension(-1, -1);
-      screenshots.add(new Screenshot(start, windowSize, driver.config(), new FileImageSource(screenshot)));
+      if (windowSize == null) {
+        windowSize = webDriver.manage().window().getSize();
+      }
+      boolean added = add(start, windowSize, driver.config(), screenshot);
       long duration = NANOSECONDS.toMillis(timestamp - start);
-      log.debug("Taken a screenshot in thread {} at {} in {} ms: {}", threadId, timestamp, duration, screenshot);
+      log.debug("Taken a screenshot in thread {} at {} in {} ms: {} bytes (added: {})",
+        threadId, timestamp, duration, screenshot.length, added);
     }, () -> {
       log.trace("Skip taking a screenshot because webdriver is not started in thread {}", threadId);
     });
   }
 
+  /**
+   * @return false if the screenshot is the same as the previous one
+   */
+  boolean add(long timestamp, Dimension window, Config config, byte[] png) {
+    int hash = Arrays.hashCode(png);
+    if (lastFrame != null && hash == lastFrameHash && Arrays.equals(png, lastFrame)) {
+      return false;
+    }
+    lastFrame = png;
+    lastFrameHash = hash;
+    screenshots.add(new Screenshot(timestamp, window, config, imageSource(png)));
+    return true;
+  }
+
+  private ImageSource imageSource(byte[] png) {
+    if (screenshots.size() < maxFramesInMemory) {
+      return new BytesImageSource(png);
+    }
+    try {
+      File file = Files.createTempFile("video-frame-", ".png").toFile();
+      Files.write(file.toPath(), png);
+      log.debug("Screenshots queue has {} items, written the screenshot to {}", screenshots.size(), file);
+      return new FileImageSource(file);
+    }
+    catch (IOException e) {
+      log.warn("Failed to write screenshot to a temporary file, keeping it in memory", e);
+      return new BytesImageSource(png);
+    }
+  }
+
   void finish() {
     long t1 = nanoTime() + SECONDS.toNanos(1);
     screenshots.add(endMarker(t1));
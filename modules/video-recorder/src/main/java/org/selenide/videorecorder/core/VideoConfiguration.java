@@ -68,6 +68,18 @@ public class VideoConfiguration {
     return properties.getInt("selenide.video.crf", 0);
   }
 
+  /**
+   * Max number of screenshots kept in memory while waiting to be added to the video.
+   * When the limit is reached, next screenshots are written to temporary files (until the video merger catches up).
+   *
+   * NB! Identical consecutive screenshots are stored only once.
+   *
+   * Default value: 3000
+   */
+  int bufferSize() {
+    return properties.getInt("selenide.video.buffer.size", 3000);
+  }
+
   /**
    * Timeout for processing a video (in milliseconds)
    *
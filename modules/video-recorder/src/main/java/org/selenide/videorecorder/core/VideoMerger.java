@@ -205,10 +205,17 @@ class VideoMerger extends TimerTask {
     log.debug("Cancelling video recorder ...");
     cancel();
     finish();
+    disposeScreenshots();
     deleteVideoFile();
     RecordedVideos.remove(threadId);
   }
 
+  private void disposeScreenshots() {
+    for (Screenshot screenshot = screenshots.poll(); screenshot != null; screenshot = screenshots.poll()) {
+      screenshot.screenshot.dispose();
+    }
+  }
+
   private void deleteVideoFile() {
     try {
       Files.deleteIfExists(videoFile);
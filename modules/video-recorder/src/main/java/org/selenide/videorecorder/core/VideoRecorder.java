@@ -5,7 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static com.codeborne.selenide.impl.Plugins.inject;
@@ -31,13 +31,13 @@ public class VideoRecorder {
   private final ScheduledExecutorService screenshooter = newScheduledThreadPool(1, named("video-recorder:screenshots:"));
   private final ScheduledExecutorService videoMerger = newScheduledThreadPool(1, named("video-recorder:stream:"));
   private final int fps;
-  private final Queue<Screenshot> screenshots = new ConcurrentLinkedQueue<>();
+  private final Queue<Screenshot> screenshots = new LinkedBlockingQueue<>();
   private final ScreenShooter screenShooterTask;
   private final VideoMerger videoMergerTask;
 
   public VideoRecorder() {
     fps = config.fps();
-    screenShooterTask = new ScreenShooter(currentThread().getId(), screenshots);
+    screenShooterTask = new ScreenShooter(currentThread().getId(), screenshots, config.bufferSize());
     videoMergerTask = new VideoMerger(currentThread().getId(), config.videoFolder(), fps, config.crf(), screenshots);
   }
 
@@ -0,0 +1,60 @@
+package org.selenide.videorecorder.core;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Dimension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScreenShooterTest {
+  private final Queue<Screenshot> screenshots = new LinkedBlockingQueue<>();
+  private final ScreenShooter screenShooter = new ScreenShooter(1, screenshots, 3);
+  private final Dimension window = new Dimension(800, 600);
+  private final SelenideConfig config = new SelenideConfig();
+
+  @Test
+  void skipsScreenshotsIdenticalToPreviousOne() {
+    assertThat(screenShooter.add(1, window, config, new byte[]{1, 2, 3})).isTrue();
+    assertThat(screenShooter.add(2, window, config, new byte[]{1, 2, 3})).isFalse();
+    assertThat(screenShooter.add(3, window, config, new byte[]{1, 2, 4})).isTrue();
+    assertThat(screenShooter.add(4, window, config, new byte[]{1, 2, 3})).isTrue();
+
+    assertThat(screenshots).extracting(s -> s.timestamp).containsExactly(1L, 3L, 4L);
+  }
+
+  /**
+   * In mode {@link VideoSaveMode#FAILED_ONLY}, nobody reads the queue until the end of test
+   */
+  @Test
+  void writesScreenshotsToFiles_ifTooManyScreenshotsAreKeptInMemory() throws IOException {
+    for (int i = 1; i <= 5; i++) {
+      screenShooter.add(i, window, config, new byte[]{(byte) i});
+    }
+
+    assertThat(screenshots).extracting(s -> s.timestamp).containsExactly(1L, 2L, 3L, 4L, 5L);
+    assertThat(screenshots).extracting(s -> s.screenshot.getClass().getSimpleName())
+      .containsExactly("BytesImageSource", "BytesImageSource", "BytesImageSource", "FileImageSource", "FileImageSource");
+
+    File file = ((FileImageSource) screenshots.stream().toList().get(4).screenshot).file();
+    assertThat(Files.readAllBytes(file.toPath())).containsExactly(5);
+    screenshots.forEach(screenshot -> screenshot.screenshot.dispose());
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void endMarkersAreAddedEvenIfManyScreenshotsAreKeptInMemory() {
+    for (int i = 1; i <= 3; i++) {
+      screenShooter.add(i, window, config, new byte[]{(byte) i});
+    }
+
+    screenShooter.finish();
+
+    assertThat(screenshots).extracting(Screenshot::isEnd).containsExactly(false, true, true);
+  }
+}
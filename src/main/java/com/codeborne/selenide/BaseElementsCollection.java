@@ -2,6 +2,7 @@ package com.codeborne.selenide;
 
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.impl.BrowserSideWait;
 import com.codeborne.selenide.impl.BySelectorCollection;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
@@ -13,6 +14,7 @@ import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
 import com.codeborne.selenide.impl.SelenideElementIterator;
+import com.codeborne.selenide.impl.SelenideElementPagedIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
 import com.codeborne.selenide.impl.WebElementsCollectionWrapper;
 import com.codeborne.selenide.logevents.SelenideLog;
@@ -44,6 +46,7 @@ import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 public abstract class BaseElementsCollection<T extends SelenideElement, SELF extends BaseElementsCollection<T, SELF>>
   implements Iterable<T> {
   private static final ElementCommunicator communicator = inject(ElementCommunicator.class);
+  private static final int DEFAULT_PAGE_SIZE = 100;
 
   private final Class<T> clazz;
   private final CollectionSource collection;
@@ -137,7 +140,7 @@ public abstract class BaseElementsCollection<T extends SelenideElement, SELF ext
   protected SELF should(String prefix, Duration timeout, WebElementsCondition... conditions) {
     validateAssertionMode(driver().config());
 
-    SelenideLog log = SelenideLogger.beginStep(collection.shortDescription(), "should " + prefix, (Object[]) conditions);
+    SelenideLog log = SelenideLogger.beginStep(collection::shortDescription, "should " + prefix, (Object[]) conditions);
     try {
       for (WebElementsCondition condition : conditions) {
         waitUntil(condition, timeout);
@@ -168,7 +171,7 @@ public abstract class BaseElementsCollection<T extends SelenideElement, SELF ext
   protected void waitUntil(WebElementsCondition condition, Duration timeout) {
     Throwable lastError = null;
     CheckResult lastCheckResult = new CheckResult(REJECT, null);
-    Stopwatch stopwatch = new Stopwatch(timeout);
+    Stopwatch stopwatch = new Stopwatch(timeout.toMillis(), driver().config().pollingStrategy());
     do {
       try {
         lastCheckResult = condition.check(collection);
@@ -188,7 +191,9 @@ public abstract class BaseElementsCollection<T extends SelenideElement, SELF ext
         }
         lastError = elementNotFound;
       }
-      sleep(stopwatch);
+      if (!BrowserSideWait.waitFor(collection, condition, timeout.toMillis() - stopwatch.getElapsedTimeMs())) {
+        sleep(stopwatch);
+      }
     }
     while (!stopwatch.isTimeoutReached());
 
@@ -450,6 +455,30 @@ public abstract class BaseElementsCollection<T extends SelenideElement, SELF ext
     return () -> new SelenideElementIterator<>(collection, clazz);
   }
 
+  /**
+   * Returns an {@link Iterable} which loads web elements page by page (100 elements per page).
+   *
+   * @see #asPagedIterable(int)
+   */
+  public SelenideElementIterable<T> asPagedIterable() {
+    return asPagedIterable(DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns an {@link Iterable} which loads web elements page by page.
+   *
+   * It's much faster than {@link #asDynamicIterable()} for big collections (like a grid with thousands of rows),
+   * and doesn't load the whole collection at once like {@link #asFixedIterable()}.
+   * If some element becomes stale, only its page is reloaded.
+   * Use {@link SelenideElementIterable#stream()} to get a lazy stream of elements.
+   *
+   * @param pageSize number of elements loaded from browser at once
+   * @see <a href="https://github.com/selenide/selenide/wiki/do-not-use-getters-in-tests">NOT RECOMMENDED</a>
+   */
+  public SelenideElementIterable<T> asPagedIterable(int pageSize) {
+    return () -> new SelenideElementPagedIterator<>(collection, clazz, pageSize);
+  }
+
   /**
    * Give this collection a human-readable name
    * <p>
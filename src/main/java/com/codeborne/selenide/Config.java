@@ -19,6 +19,8 @@ public interface Config {
   String baseUrl();
   long timeout();
   long pollingInterval();
+  boolean waitViaJs();
+  PollingStrategy pollingStrategy();
 
   /**
    * @deprecated Don't use this setting. It leaves the browser and webdriver open.
@@ -28,9 +30,14 @@ public interface Config {
   boolean holdBrowserOpen();
 
   boolean reopenBrowserOnFail();
+  long browserHealthCheckInterval();
+  int browserPoolSize();
   boolean clickViaJs();
+  boolean checkActionabilityViaJs();
   boolean screenshots();
   boolean savePageSource();
+  boolean asyncScreenshots();
+  boolean metrics();
 
   String reportsFolder();
   String downloadsFolder();
@@ -39,6 +46,7 @@ public interface Config {
   boolean fastSetValue();
   TextCheck textCheck();
   SelectorMode selectorMode();
+  boolean cacheParentElements();
   AssertionMode assertionMode();
   FileDownloadMode fileDownload();
 
@@ -0,0 +1,54 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.impl.AdaptivePolling;
+import com.codeborne.selenide.impl.FixedPolling;
+
+/**
+ * Defines how long to wait between checks in all Selenide wait loops
+ * (element and collection assertions, waiting for downloads etc.)
+ *
+ * @see Config#pollingStrategy()
+ * @see SelenideElement#should(WebElementCondition, java.time.Duration, PollingStrategy)
+ */
+public interface PollingStrategy {
+  /**
+   * @param attempt         number of checks already performed (starting from 1)
+   * @param pollingInterval {@link Config#pollingInterval()} (or the polling interval of the specific wait loop)
+   * @return delay in milliseconds before the next check
+   */
+  long delay(int attempt, long pollingInterval);
+
+  /**
+   * @return true if the last delay should be shortened to the deadline,
+   *         so that the condition is checked once more right before timeout.
+   */
+  default boolean checkAtDeadline() {
+    return false;
+  }
+
+  /**
+   * Sleep {@link Config#pollingInterval()} between all checks (default behaviour)
+   */
+  static PollingStrategy fixed() {
+    return FixedPolling.INSTANCE;
+  }
+
+  /**
+   * Check often during the first milliseconds, and then less and less often.
+   * @see AdaptivePolling
+   */
+  static PollingStrategy adaptive() {
+    return new AdaptivePolling();
+  }
+
+  /**
+   * @param name "fixed" or "adaptive"
+   */
+  static PollingStrategy valueOf(String name) {
+    return switch (name) {
+      case "fixed" -> fixed();
+      case "adaptive" -> adaptive();
+      default -> throw new IllegalArgumentException("Unknown polling strategy: " + name + " (expected: fixed or adaptive)");
+    };
+  }
+}
@@ -12,5 +12,14 @@ public enum SelectorMode {
    *
    * For other selectors (XPath, ID etc.) uses default Selenium mechanism.
    */
-  Sizzle
+  Sizzle,
+
+  /**
+   * Default Selenium behavior for a single selector,
+   * but a chain of nested CSS/XPath selectors (like {@code $("#a").$(".b").$$("li").get(2)})
+   * is resolved in browser by a single JavaScript call.
+   *
+   * It's especially useful with remote browsers, where every WebDriver call is expensive.
+   */
+  JS
 }
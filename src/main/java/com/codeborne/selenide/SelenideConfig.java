@@ -33,6 +33,8 @@ public class SelenideConfig implements Config {
   private String baseUrl = getProperty("selenide.baseUrl", "http://localhost:8080");
   private long timeout = Long.parseLong(getProperty("selenide.timeout", "4000"));
   private long pollingInterval = Long.parseLong(getProperty("selenide.pollingInterval", "200"));
+  private boolean waitViaJs = properties.getBoolean("selenide.waitViaJs", false);
+  private PollingStrategy pollingStrategy = PollingStrategy.valueOf(getProperty("selenide.pollingStrategy", "fixed"));
   /**
    * @deprecated Don't use this setting. It leaves the browser and webdriver open.
    * User can later close the browser manually, but the webdriver leaves running forever.
@@ -40,10 +42,15 @@ public class SelenideConfig implements Config {
   @Deprecated
   private boolean holdBrowserOpen = properties.getBoolean("selenide.holdBrowserOpen", false);
   private boolean reopenBrowserOnFail = properties.getBoolean("selenide.reopenBrowserOnFail", true);
+  private long browserHealthCheckInterval = Long.parseLong(getProperty("selenide.browserHealthCheckInterval", "0"));
+  private int browserPoolSize = Integer.parseInt(getProperty("selenide.browserPoolSize", "0"));
   private boolean clickViaJs = properties.getBoolean("selenide.clickViaJs", false);
+  private boolean checkActionabilityViaJs = properties.getBoolean("selenide.checkActionabilityViaJs", false);
   private boolean screenshots = properties.getBoolean("selenide.screenshots", true);
 
   private boolean savePageSource = properties.getBoolean("selenide.savePageSource", true);
+  private boolean asyncScreenshots = properties.getBoolean("selenide.asyncScreenshots", false);
+  private boolean metrics = properties.getBoolean("selenide.metrics", false);
   private String reportsFolder = getProperty("selenide.reportsFolder", "build/reports/tests");
   private String downloadsFolder = getProperty("selenide.downloadsFolder", "build/downloads");
   @Nullable
@@ -51,6 +58,7 @@ public class SelenideConfig implements Config {
   private boolean fastSetValue = properties.getBoolean("selenide.fastSetValue", false);
   private TextCheck textCheck = TextCheck.valueOf(getProperty("selenide.textCheck", TextCheck.PARTIAL_TEXT.name()));
   private SelectorMode selectorMode = SelectorMode.valueOf(getProperty("selenide.selectorMode", CSS.name()));
+  private boolean cacheParentElements = properties.getBoolean("selenide.cacheParentElements", false);
   private AssertionMode assertionMode = AssertionMode.valueOf(getProperty("selenide.assertionMode", STRICT.name()));
   private FileDownloadMode fileDownload = FileDownloadMode.valueOf(getProperty("selenide.fileDownload", HTTPGET.name()));
   private boolean proxyEnabled = properties.getBoolean("selenide.proxyEnabled", false);
@@ -93,6 +101,28 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean waitViaJs() {
+    return waitViaJs;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig waitViaJs(boolean waitViaJs) {
+    this.waitViaJs = waitViaJs;
+    return this;
+  }
+
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return pollingStrategy;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig pollingStrategy(PollingStrategy pollingStrategy) {
+    this.pollingStrategy = pollingStrategy;
+    return this;
+  }
+
   @Deprecated
   @Override
   public boolean holdBrowserOpen() {
@@ -117,6 +147,28 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public long browserHealthCheckInterval() {
+    return browserHealthCheckInterval;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig browserHealthCheckInterval(long browserHealthCheckInterval) {
+    this.browserHealthCheckInterval = browserHealthCheckInterval;
+    return this;
+  }
+
+  @Override
+  public int browserPoolSize() {
+    return browserPoolSize;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig browserPoolSize(int browserPoolSize) {
+    this.browserPoolSize = browserPoolSize;
+    return this;
+  }
+
   @Override
   public boolean clickViaJs() {
     return clickViaJs;
@@ -128,6 +180,17 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean checkActionabilityViaJs() {
+    return checkActionabilityViaJs;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig checkActionabilityViaJs(boolean checkActionabilityViaJs) {
+    this.checkActionabilityViaJs = checkActionabilityViaJs;
+    return this;
+  }
+
   @Override
   public boolean screenshots() {
     return screenshots;
@@ -150,6 +213,28 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean asyncScreenshots() {
+    return asyncScreenshots;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig asyncScreenshots(boolean asyncScreenshots) {
+    this.asyncScreenshots = asyncScreenshots;
+    return this;
+  }
+
+  @Override
+  public boolean metrics() {
+    return metrics;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig metrics(boolean metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public String reportsFolder() {
     return reportsFolder;
@@ -217,6 +302,17 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean cacheParentElements() {
+    return cacheParentElements;
+  }
+
+  @CanIgnoreReturnValue
+  public SelenideConfig cacheParentElements(boolean cacheParentElements) {
+    this.cacheParentElements = cacheParentElements;
+    return this;
+  }
+
   @Override
   public AssertionMode assertionMode() {
     return assertionMode;
@@ -394,6 +394,14 @@ public class SelenideDriver {
     return downloadFileWithHttpRequest().download(driver(), url, timeoutMs, none());
   }
 
+  public List<File> downloadAll(List<URI> urls) {
+    return downloadAll(urls, config.timeout());
+  }
+
+  public List<File> downloadAll(List<URI> urls, long timeoutMs) {
+    return downloadFileWithHttpRequest().downloadAll(driver(), urls, timeoutMs, none());
+  }
+
   public LocalStorage getLocalStorage() {
     return new LocalStorage(driver());
   }
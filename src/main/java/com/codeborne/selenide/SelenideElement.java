@@ -460,6 +460,19 @@ public interface SelenideElement extends WebElement, WrapsDriver, WrapsElement,
   @CanIgnoreReturnValue
   SelenideElement should(WebElementCondition condition, Duration timeout);
 
+  /**
+   * Wait until given element meets given condition (with given timeout and polling strategy).<p>
+   *
+   * For example: {@code
+   * $("#spinner").should(disappear, Duration.ofSeconds(30), PollingStrategy.adaptive());
+   * }
+   *
+   * @see com.codeborne.selenide.Config#pollingStrategy
+   * @see com.codeborne.selenide.commands.Should
+   */
+  @CanIgnoreReturnValue
+  SelenideElement should(WebElementCondition condition, Duration timeout, PollingStrategy pollingStrategy);
+
   /**
    * Synonym for {@link #should(WebElementCondition...)}. Useful for better readability.<p>
    *
@@ -1,28 +1,54 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.metrics.SelenideMetrics;
+
 import java.time.Duration;
 
+import static com.codeborne.selenide.impl.Plugins.inject;
 import static java.lang.System.nanoTime;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class Stopwatch {
+  private static final SelenideMetrics metrics = inject(SelenideMetrics.class);
+
   private final long startTimeNano;
   private final long timeoutNano;
+  private final PollingStrategy pollingStrategy;
+  private int attempts;
+  private boolean checkAtDeadline;
 
   public Stopwatch(Duration timeout) {
     this(timeout.toMillis());
   }
 
   public Stopwatch(long timeoutMs) {
-    this(timeoutMs, nanoTime());
+    this(timeoutMs, PollingStrategy.fixed());
+  }
+
+  public Stopwatch(long timeoutMs, PollingStrategy pollingStrategy) {
+    this(timeoutMs, nanoTime(), pollingStrategy);
   }
 
   Stopwatch(long timeoutMs, long startTimeNano) {
+    this(timeoutMs, startTimeNano, PollingStrategy.fixed());
+  }
+
+  Stopwatch(long timeoutMs, long startTimeNano, PollingStrategy pollingStrategy) {
     this.startTimeNano = startTimeNano;
+    this.pollingStrategy = pollingStrategy;
     timeoutNano = MILLISECONDS.toNanos(timeoutMs);
   }
 
+  /**
+   * @return true if timeout is reached (but returns false once after the last delay
+   *         if the polling strategy wants to check the condition right before timeout)
+   */
   public boolean isTimeoutReached() {
+    if (checkAtDeadline) {
+      checkAtDeadline = false;
+      return false;
+    }
     return isTimeoutReached(nanoTime());
   }
 
@@ -34,11 +60,40 @@ public class Stopwatch {
     return now - startTimeNano > timeoutNano;
   }
 
-  public void sleep(long milliseconds) {
-    if (isTimeoutReached()) return;
+  /**
+   * @param pollingInterval the polling interval of the wait loop (passed to polling strategy)
+   * @return how long to wait before the next check (according to the polling strategy), or 0 if timeout is reached
+   */
+  public long nextDelay(long pollingInterval) {
+    return nextDelay(pollingInterval, nanoTime());
+  }
+
+  long nextDelay(long pollingInterval, long now) {
+    if (isTimeoutReached(now)) return 0;
+
+    long delay = pollingStrategy.delay(++attempts, pollingInterval);
+    long remainingMs = NANOSECONDS.toMillis(startTimeNano + timeoutNano - now) + 1;
+    if (pollingStrategy.checkAtDeadline() && delay >= remainingMs) {
+      checkAtDeadline = true;
+      return remainingMs;
+    }
+    return delay;
+  }
+
+  /**
+   * Sleep before the next check
+   *
+   * @param pollingInterval the polling interval of the wait loop (passed to polling strategy)
+   * @see #nextDelay(long)
+   */
+  public void sleep(long pollingInterval) {
+    long delay = nextDelay(pollingInterval);
+    if (delay <= 0) return;
 
+    long start = nanoTime();
     try {
-      Thread.sleep(milliseconds);
+      Thread.sleep(delay);
+      metrics.sleep(nanoTime() - start);
     }
     catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -2,8 +2,11 @@ package com.codeborne.selenide;
 
 import com.codeborne.selenide.conditions.ExplainedCondition;
 import com.codeborne.selenide.conditions.Not;
+import com.codeborne.selenide.conditions.Or;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
@@ -35,6 +38,22 @@ public abstract class WebElementCondition {
     return new Not(this, missingElementSatisfiesCondition);
   }
 
+  /**
+   * Allows checking all elements of a collection with a single JavaScript call
+   * (e.g. {@code $$(".row").filter(visible)}) instead of checking them one by one.
+   * <p>
+   * NB! Built-in conditions return their predicate only if their class is not subclassed:
+   * a subclass may override {@link #check(Driver, WebElement)}, and the predicate would not reflect it.
+   * </p>
+   *
+   * @return predicate understood by "element-predicate.js" (name of the check followed by its arguments),
+   *         or null if this condition can be checked only by {@link #check(Driver, WebElement)}.
+   */
+  @Nullable
+  public List<Object> jsPredicate() {
+    return null;
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
@@ -68,6 +87,12 @@ public abstract class WebElementCondition {
         return r1.verdict() == ACCEPT ? r1 : alternative.check(driver, element);
       }
 
+      @Override
+      @Nullable
+      public List<Object> jsPredicate() {
+        return Or.jsPredicate(List.of(WebElementCondition.this, alternative));
+      }
+
       @Override
       public WebElementCondition negate() {
         return new Not(this,
@@ -67,6 +67,17 @@ public abstract class WebElementsCondition {
     return false;
   }
 
+  /**
+   * Allows waiting for this condition in browser (see {@link Config#waitViaJs()}).
+   *
+   * @return predicate understood by "wait-for-condition.js" (name of the check followed by its arguments),
+   *         or null if this condition can be checked only by {@link #check(CollectionSource)}.
+   */
+  @Nullable
+  public List<Object> jsPredicate() {
+    return null;
+  }
+
   /**
    * Using "or" checks in tests is probably a flag of bad test design.
    * Consider splitting this "or" check into two different methods or tests.
@@ -39,5 +39,10 @@ abstract class CollectionSizeCondition extends WebElementsCondition {
     return apply(0);
   }
 
+  @Override
+  public List<Object> jsPredicate() {
+    return List.of("size", operator, expectedSize);
+  }
+
   protected abstract boolean apply(int size);
 }
@@ -36,9 +36,30 @@ public class Click extends FluentCommand {
   @Override
   public void execute(WebElementSource locator, Object @Nullable [] args) {
     ClickOptions clickOptions = options(args);
+    if (checkAndClickViaJs(locator, clickOptions)) {
+      return;
+    }
     click(locator.driver(), findElement(locator, clickOptions.isForce()), clickOptions);
   }
 
+  /**
+   * Check that element is clickable and click it via JS - in a single JS call.
+   *
+   * @return false if it's not applicable for the given click options
+   * @see com.codeborne.selenide.Config#checkActionabilityViaJs()
+   */
+  protected boolean checkAndClickViaJs(WebElementSource locator, ClickOptions clickOptions) {
+    Driver driver = locator.driver();
+    Duration timeout = clickOptions.timeout();
+    boolean applicable = !clickOptions.isForce()
+      && detectMethod(driver, clickOptions) == JS
+      && (timeout == null || timeout.toMillis() == driver.config().pageLoadTimeout());
+
+    return applicable && locator.clickViaJsIfClickable(
+      clickOptions.offsetX(), clickOptions.offsetY(), toClickEventOptions(clickOptions.holdingKeys())
+    );
+  }
+
   protected ClickOptions options(Object @Nullable [] args) {
     return switch (size(args)) {
       case 0 -> usingDefaultMethod();
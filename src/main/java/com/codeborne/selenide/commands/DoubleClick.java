@@ -1,7 +1,9 @@
 package com.codeborne.selenide.commands;
 
+import com.codeborne.selenide.ClickOptions;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.JavaScript;
+import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -12,6 +14,11 @@ public class DoubleClick extends Click {
 
   private final JavaScript jsSource = new JavaScript("dblclick.js");
 
+  @Override
+  protected boolean checkAndClickViaJs(WebElementSource locator, ClickOptions clickOptions) {
+    return false;
+  }
+
   @Override
   protected void clickViaJS(Driver driver, WebElement element, int offsetX, int offsetY, List<Keys> holdingKeys) {
     jsSource.execute(driver, element, offsetX, offsetY, toClickEventOptions(holdingKeys));
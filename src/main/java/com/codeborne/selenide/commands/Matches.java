@@ -47,7 +47,7 @@ public class Matches implements Command<Boolean> {
   }
 
   private boolean evaluateWithTimeout(WebElementSource locator, WebElementCondition condition, long timeout, long pollingInterval) {
-    Stopwatch stopwatch = new Stopwatch(timeout);
+    Stopwatch stopwatch = new Stopwatch(timeout, locator.driver().config().pollingStrategy());
     while (!stopwatch.isTimeoutReached()) {
       boolean result = evaluate(locator, condition);
       if (result) return true;
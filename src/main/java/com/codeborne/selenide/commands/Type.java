@@ -1,9 +1,14 @@
 package com.codeborne.selenide.commands;
 
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.FluentCommand;
 import com.codeborne.selenide.TypeOptions;
 import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.time.Duration;
 
 import static com.codeborne.selenide.Stopwatch.sleepAtLeast;
 import static com.codeborne.selenide.commands.Util.firstOf;
@@ -11,6 +16,8 @@ import static com.codeborne.selenide.impl.Plugins.inject;
 import static java.util.Objects.requireNonNull;
 
 public class Type extends FluentCommand {
+  static final int CHUNK_SIZE = 100;
+
   private final Clear clear;
 
   public Type() {
@@ -27,7 +34,7 @@ public class Type extends FluentCommand {
     clearField(locator, typeOptions);
 
     WebElement element = findElement(locator);
-    typeIntoField(element, typeOptions);
+    typeIntoField(locator.driver(), element, typeOptions);
   }
 
   protected WebElement findElement(WebElementSource locator) {
@@ -52,12 +59,58 @@ public class Type extends FluentCommand {
     }
   }
 
-  private void typeIntoField(WebElement element, TypeOptions typeOptions) {
-    int textLength = typeOptions.textToType().length();
-    for (int i = 0; i < textLength; i++) {
-      CharSequence character = typeOptions.textToType().subSequence(i, i + 1);
-      element.sendKeys(character);
-      sleepAtLeast(typeOptions.timeDelay().toMillis());
+  /**
+   * Types the text by W3C Actions: one request per {@link #CHUNK_SIZE} characters instead of one request per character.
+   * <p>
+   * The first character is sent directly to the element - it focuses the element and puts the caret to the end of its text.
+   * Time delay between characters (if any) is added as "pause" actions.
+   * </p>
+   * <p>
+   * If the browser doesn't support Actions, or the element has lost focus (so that the keys would go to another element),
+   * the rest of the text is sent directly to the element character by character.
+   * </p>
+   */
+  protected void typeIntoField(Driver driver, WebElement element, TypeOptions typeOptions) {
+    int[] characters = typeOptions.textToType().codePoints().toArray();
+    if (characters.length == 0) {
+      return;
+    }
+
+    element.sendKeys(Character.toString(characters[0]));
+    Duration delay = typeOptions.timeDelay();
+    for (int start = 1; start < characters.length; start += CHUNK_SIZE) {
+      if (!isActive(driver, element)) {
+        typeCharByChar(element, characters, start, delay);
+        return;
+      }
+      Actions actions = driver.actions();
+      for (int i = start; i < Math.min(start + CHUNK_SIZE, characters.length); i++) {
+        if (!delay.isZero()) {
+          actions.pause(delay);
+        }
+        String key = Character.toString(characters[i]);
+        actions.keyDown(key).keyUp(key);
+      }
+      try {
+        actions.perform();
+      }
+      catch (UnsupportedCommandException actionsNotSupported) {
+        typeCharByChar(element, characters, start, delay);
+        return;
+      }
+    }
+  }
+
+  private boolean isActive(Driver driver, WebElement element) {
+    return element.equals(driver.getWebDriver().switchTo().activeElement());
+  }
+
+  private void typeCharByChar(WebElement element, int[] characters, int start, Duration delay) {
+    for (int i = start; i < characters.length; i++) {
+      if (!delay.isZero()) {
+        sleepAtLeast(delay.toMillis());
+      }
+      element.sendKeys(Character.toString(characters[i]));
     }
   }
 }
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.commands;
 
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.WebElementCondition;
 import org.jspecify.annotations.Nullable;
 
@@ -38,7 +39,7 @@ public class Util {
         conditions.add(conditionArgument);
       else if (arg instanceof WebElementCondition[] conditionsArray)
         conditions.addAll(asList(conditionsArray));
-      else if (!(arg instanceof String || arg instanceof Long || arg instanceof Duration))
+      else if (!(arg instanceof String || arg instanceof Long || arg instanceof Duration || arg instanceof PollingStrategy))
         throw new IllegalArgumentException("Unknown parameter: " + arg);
     }
     return conditions;
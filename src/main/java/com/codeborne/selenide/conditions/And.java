@@ -3,6 +3,7 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
@@ -62,4 +63,10 @@ public class And extends WebElementCondition {
   public String toString() {
     return getName() + ": " + conditions.stream().map(WebElementCondition::toString).collect(joining(" and "));
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return ConditionHelpers.jsPredicate("and", conditions);
+  }
 }
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class Attribute extends WebElementCondition {
   private final String attributeName;
 
@@ -18,4 +21,10 @@ public class Attribute extends WebElementCondition {
     String attributeValue = element.getAttribute(attributeName);
     return new CheckResult(attributeValue != null, String.format("%s=\"%s\"", attributeName, attributeValue));
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Attribute.class ? List.of("attribute", attributeName) : null;
+  }
 }
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class AttributeWithValue extends WebElementCondition {
   private final String attributeName;
   protected final String expectedAttributeValue;
@@ -24,6 +27,12 @@ public class AttributeWithValue extends WebElementCondition {
     );
   }
 
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == AttributeWithValue.class ? List.of("attributeValue", attributeName, expectedAttributeValue) : null;
+  }
+
   protected String getAttributeValue(WebElement element) {
     String attr = element.getAttribute(attributeName);
     return attr == null ? "" : attr;
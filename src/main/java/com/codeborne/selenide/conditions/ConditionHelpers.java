@@ -1,5 +1,8 @@
 package com.codeborne.selenide.conditions;
 
+import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,4 +19,22 @@ public class ConditionHelpers {
     if (others.length > 0) result.addAll(asList(others));
     return unmodifiableList(result);
   }
+
+  /**
+   * @return JS predicate combining predicates of all given conditions,
+   *         or null if some of conditions cannot be checked by JavaScript
+   */
+  @Nullable
+  static List<Object> jsPredicate(String operator, List<? extends WebElementCondition> conditions) {
+    List<Object> result = new ArrayList<>(conditions.size() + 1);
+    result.add(operator);
+    for (WebElementCondition condition : conditions) {
+      List<Object> predicate = condition.jsPredicate();
+      if (predicate == null) {
+        return null;
+      }
+      result.add(predicate);
+    }
+    return unmodifiableList(result);
+  }
 }
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class CssClass extends WebElementCondition {
   private final String expectedCssClass;
 
@@ -33,4 +36,10 @@ public class CssClass extends WebElementCondition {
     }
     return false;
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == CssClass.class ? List.of("cssClass", expectedCssClass) : null;
+  }
 }
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class Disabled extends WebElementCondition {
 
   public Disabled() {
@@ -16,4 +19,10 @@ public class Disabled extends WebElementCondition {
     boolean disabled = !element.isEnabled();
     return new CheckResult(disabled, disabled ? "disabled" : "enabled");
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Disabled.class ? List.of("not", List.of("enabled")) : null;
+  }
 }
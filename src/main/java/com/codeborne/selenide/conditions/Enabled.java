@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class Enabled extends WebElementCondition {
 
   public Enabled() {
@@ -16,4 +19,10 @@ public class Enabled extends WebElementCondition {
     boolean enabled = element.isEnabled();
     return new CheckResult(enabled, enabled ? "enabled" : "disabled");
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Enabled.class ? List.of("enabled") : null;
+  }
 }
@@ -4,10 +4,13 @@ import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
 import static com.codeborne.selenide.CheckResult.Verdict.REJECT;
 
@@ -32,4 +35,10 @@ public class Exist extends WebElementCondition {
   public WebElementCondition negate() {
     return new Not(this, true);
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Exist.class ? List.of("exist") : null;
+  }
 }
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class ExplainedCondition<T extends WebElementCondition> extends WebElementCondition {
   private final T delegate;
   private final String message;
@@ -29,4 +32,10 @@ public class ExplainedCondition<T extends WebElementCondition> extends WebElemen
   public String toString() {
     return delegate + " (because " + message + ")";
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return delegate.jsPredicate();
+  }
 }
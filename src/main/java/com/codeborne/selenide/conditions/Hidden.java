@@ -3,10 +3,13 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
 
 public class Hidden extends WebElementCondition {
@@ -29,4 +32,10 @@ public class Hidden extends WebElementCondition {
   public WebElementCondition negate() {
     return new Not(this, false);
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Hidden.class ? List.of("not", List.of("visible")) : null;
+  }
 }
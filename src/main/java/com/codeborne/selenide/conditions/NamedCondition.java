@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class NamedCondition extends WebElementCondition {
   private final String prefix;
   private final WebElementCondition delegate;
@@ -29,4 +32,10 @@ public class NamedCondition extends WebElementCondition {
   public String toString() {
     return prefix + ' ' + delegate;
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return delegate.jsPredicate();
+  }
 }
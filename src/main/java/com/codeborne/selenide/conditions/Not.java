@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
 import static com.codeborne.selenide.CheckResult.Verdict.REJECT;
 
@@ -26,4 +29,11 @@ public class Not extends WebElementCondition {
   public String toString() {
     return "not " + condition;
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    List<Object> predicate = condition.jsPredicate();
+    return predicate == null ? null : List.of("not", predicate);
+  }
 }
@@ -3,6 +3,7 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
@@ -63,4 +64,15 @@ public class Or extends WebElementCondition {
   public String toString() {
     return getName() + ": " + conditions.stream().map(WebElementCondition::toString).collect(joining(" or "));
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return jsPredicate(conditions);
+  }
+
+  @Nullable
+  public static List<Object> jsPredicate(List<? extends WebElementCondition> conditions) {
+    return ConditionHelpers.jsPredicate("or", conditions);
+  }
 }
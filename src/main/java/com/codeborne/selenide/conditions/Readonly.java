@@ -1,10 +1,20 @@
 package com.codeborne.selenide.conditions;
 
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
 public class Readonly extends Attribute {
   public Readonly() {
     super("readonly");
   }
 
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Readonly.class ? List.of("attribute", "readonly") : null;
+  }
+
   @Override
   public String toString() {
     return "readonly";
@@ -3,8 +3,11 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 public class Visible extends WebElementCondition {
   public Visible() {
     super("visible");
@@ -20,4 +23,10 @@ public class Visible extends WebElementCondition {
   public WebElementCondition negate() {
     return new Not(this, true);
   }
+
+  @Override
+  @Nullable
+  public List<Object> jsPredicate() {
+    return getClass() == Visible.class ? List.of("visible") : null;
+  }
 }
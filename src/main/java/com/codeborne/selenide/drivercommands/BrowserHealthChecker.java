@@ -1,19 +1,50 @@
 package com.codeborne.selenide.drivercommands;
 
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.synchronizedMap;
+
 public class BrowserHealthChecker {
   private static final Logger log = LoggerFactory.getLogger(BrowserHealthChecker.class);
 
+  /**
+   * Time of the last successful command of every webdriver
+   */
+  private static final Map<WebDriver, Long> lastActivity = synchronizedMap(new WeakHashMap<>());
+
+  private final Config config;
+
+  public BrowserHealthChecker() {
+    this(new SelenideConfig());
+  }
+
+  public BrowserHealthChecker(Config config) {
+    this.config = config;
+  }
+
   public boolean isBrowserStillOpen(WebDriver webDriver) {
+    if (wasUsedRecently(webDriver)) {
+      log.debug("Webdriver has been used recently, skip health check: {}", webDriver);
+      return true;
+    }
+
     try {
       webDriver.getTitle();
+      markAlive(webDriver);
       return true;
     }
     catch (UnsupportedCommandException notSupportedButAlive) {
@@ -33,4 +64,44 @@ public class BrowserHealthChecker {
       return false;
     }
   }
+
+  private boolean wasUsedRecently(WebDriver webDriver) {
+    long interval = config.browserHealthCheckInterval();
+    if (interval <= 0) {
+      return false;
+    }
+    Long lastUsed = lastActivity.get(webDriver);
+    return lastUsed != null && currentTimeMillis() - lastUsed < interval;
+  }
+
+  /**
+   * Remember that the webdriver has successfully executed a command (so it's alive).
+   */
+  public static void markAlive(WebDriver webDriver) {
+    lastActivity.put(webDriver, currentTimeMillis());
+  }
+
+  /**
+   * Same as {@link #markAlive(WebDriver)}, but only if health check interval is enabled
+   * (thus it doesn't cost anything by default).
+   */
+  public static void markAlive(Driver driver) {
+    if (driver.config().browserHealthCheckInterval() > 0 && driver.hasWebDriverStarted()) {
+      markAlive(driver.getWebDriver());
+    }
+  }
+
+  /**
+   * Forget that the webdriver has been used recently: the next health check will really check the browser.
+   */
+  public static void forget(WebDriver webDriver) {
+    lastActivity.remove(webDriver);
+  }
+
+  /**
+   * @return true if the error means that the browser (or its window) has been closed
+   */
+  public static boolean isBrowserClosed(WebDriverException e) {
+    return e instanceof UnreachableBrowserException || e instanceof NoSuchSessionException || e instanceof NoSuchWindowException;
+  }
 }
@@ -0,0 +1,382 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.Disposable;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * Pool of browsers which are launched in advance (in background threads) and reused between tests.
+ *
+ * <p>
+ *   Enabled by setting {@link Config#browserPoolSize()}.
+ *   Browsers are pooled separately for every combination of settings that affect browser launch
+ *   (browser name, headless, size, binary, capabilities etc.).
+ * </p>
+ *
+ * <p>
+ *   Every test gets the browser with a new browser context (like an incognito window, created via CDP):
+ *   cookies, storages and caches of all sites visited by the test (in any window, popup or frame) stay in this context.
+ *   When the browser is returned to the pool, the context is disposed together with all its data,
+ *   and a new blank window (with configured size and position) is opened in a new context for the next test.
+ *   If some page has been opened outside the context, or the cleanup fails, the browser is closed.
+ *   Since other browsers cannot do it, only local Chromium browsers (Chrome, Edge) are pooled.
+ * </p>
+ *
+ * <p>
+ *   NB! Driver processes (like chromedriver) are not shared between browsers: Selenium stops the driver process
+ *   when its browser quits. But since pooled browsers are not closed, their driver processes are reused as well.
+ * </p>
+ */
+public class BrowserPool {
+  private static final Logger log = LoggerFactory.getLogger(BrowserPool.class);
+  private static final BrowserPool instance = new BrowserPool();
+
+  private final Map<Key, BlockingDeque<PooledBrowser>> idleBrowsers = new ConcurrentHashMap<>();
+  private final Map<Key, AtomicInteger> launchingBrowsers = new ConcurrentHashMap<>();
+  private final Map<WebDriver, PooledBrowser> lentBrowsers = synchronizedMap(new IdentityHashMap<>());
+  private final DisposablesRegistry<PooledBrowser> registry = new DisposablesRegistry<>();
+  private final ExecutorService launcher = newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "selenide-browser-pool");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public static BrowserPool browserPool() {
+    return instance;
+  }
+
+  BrowserPool() {
+  }
+
+  /**
+   * Only local Chromium browsers are pooled: only they can isolate cookies and storages of every test.
+   */
+  public boolean isApplicable(Config config, boolean customProxy) {
+    return config.browserPoolSize() > 0 && !config.proxyEnabled() && !customProxy && !config.holdBrowserOpen()
+      && config.remote() == null && new Browser(config.browser(), config.headless()).isChromium();
+  }
+
+  /**
+   * Get an already launched browser from the pool (or launch a new one if the pool is empty),
+   * and start launching more browsers in background to keep the pool full.
+   *
+   * @param launch function that launches a new browser with given settings (can be called in another thread)
+   */
+  public PooledBrowser checkout(Config config, Function<Config, PooledBrowser> launch) {
+    Config settings = snapshot(config);
+    Key key = new Key(settings);
+    PooledBrowser browser = idle(key).poll();
+    refill(key, settings, launch);
+
+    if (browser == null) {
+      log.debug("No browsers in pool, launching a new one");
+      browser = isolate(launch.apply(settings).withKey(key));
+    }
+    else {
+      registry.unregister(browser);
+      log.debug("Took browser from pool: {}", browser.webDriver());
+    }
+    return browser;
+  }
+
+  /**
+   * Remember that the browser (possibly wrapped with listeners) is used by a test.
+   */
+  public void lend(WebDriver webDriver, PooledBrowser browser) {
+    lentBrowsers.put(webDriver, browser);
+  }
+
+  /**
+   * Return the browser to the pool (if it was taken from the pool).
+   *
+   * @return false if the browser was not taken from the pool (then the caller should close it as usual)
+   */
+  public boolean giveBack(WebDriver webDriver, int poolSize) {
+    PooledBrowser browser = lentBrowsers.remove(webDriver);
+    if (browser == null) {
+      return false;
+    }
+    BlockingDeque<PooledBrowser> idle = idle(browser.key());
+    PooledBrowser cleanBrowser = idle.size() >= poolSize ? null : reset(browser);
+    if (cleanBrowser == null) {
+      browser.dispose();
+      return true;
+    }
+    idle.offer(cleanBrowser);
+    registry.register(cleanBrowser);
+    log.debug("Returned browser to pool: {}", cleanBrowser.webDriver());
+    return true;
+  }
+
+  private void refill(Key key, Config settings, Function<Config, PooledBrowser> launch) {
+    AtomicInteger launching = launchingBrowsers.computeIfAbsent(key, k -> new AtomicInteger());
+    BlockingDeque<PooledBrowser> idle = idle(key);
+    while (idle.size() + launching.get() < settings.browserPoolSize()) {
+      launching.incrementAndGet();
+      launcher.execute(() -> {
+        try {
+          PooledBrowser browser = isolate(launch.apply(settings).withKey(key));
+          registry.register(browser);
+          idle.offer(browser);
+          log.debug("Launched browser in background: {}", browser.webDriver());
+        }
+        catch (RuntimeException e) {
+          log.error("Failed to launch browser in background", e);
+        }
+        finally {
+          launching.decrementAndGet();
+        }
+      });
+    }
+  }
+
+  int size(Config config) {
+    return idle(new Key(config)).size();
+  }
+
+  private BlockingDeque<PooledBrowser> idle(@Nullable Key key) {
+    return idleBrowsers.computeIfAbsent(key == null ? Key.NONE : key, k -> new LinkedBlockingDeque<>());
+  }
+
+  /**
+   * Open a blank window in a new browser context (for the first test).
+   * If the browser doesn't support it, it's still used, but will be closed instead of returning to the pool.
+   */
+  private static PooledBrowser isolate(PooledBrowser browser) {
+    try {
+      return openNewContext(browser);
+    }
+    catch (WebDriverException e) {
+      log.info("Failed to create browser context, the browser will not be reused: {}", e.toString());
+      return browser;
+    }
+  }
+
+  /**
+   * Dispose the browser context with cookies, storages and caches of all sites visited by the test,
+   * and open a blank window in a new browser context.
+   * Only Chromium browsers can do it (via CDP).
+   *
+   * @return the browser ready for the next test, or null if its state cannot be cleared (then it should be closed)
+   */
+  @Nullable
+  static PooledBrowser reset(PooledBrowser browser) {
+    WebDriver webDriver = browser.webDriver();
+    String browserContext = browser.browserContext();
+    if (!(webDriver instanceof HasCdp cdp) || browserContext == null) {
+      log.info("Cannot clear state of browser {}, will close it", webDriver);
+      return null;
+    }
+    try {
+      Optional<String> foreignPage = pageOutsideOf(cdp, browserContext);
+      if (foreignPage.isPresent()) {
+        log.info("Page {} was opened outside of browser context, will close the browser", foreignPage.get());
+        return null;
+      }
+      return openNewContext(browser);
+    }
+    catch (WebDriverException e) {
+      log.info("Failed to reset browser state, will close it: {}", e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Open a blank window in a new browser context, close all other windows and dispose the previous browser context.
+   */
+  private static PooledBrowser openNewContext(PooledBrowser browser) {
+    WebDriver webDriver = browser.webDriver();
+    if (!(webDriver instanceof HasCdp cdp)) {
+      throw new WebDriverException("Browser doesn't support CDP: " + webDriver);
+    }
+    String context = string(cdp.executeCdpCommand("Target.createBrowserContext", Map.of()), "browserContextId");
+    File downloadsFolder = browser.downloadsFolder();
+    if (downloadsFolder != null) {
+      cdp.executeCdpCommand("Browser.setDownloadBehavior", Map.of("behavior", "allow",
+        "browserContextId", context, "downloadPath", downloadsFolder.getAbsolutePath()));
+    }
+    String blankWindow = string(cdp.executeCdpCommand("Target.createTarget", newWindow(context, browser.key())), "targetId");
+
+    for (String window : webDriver.getWindowHandles()) {
+      if (!window.equals(blankWindow)) {
+        webDriver.switchTo().window(window).close();
+      }
+    }
+    webDriver.switchTo().window(blankWindow);
+
+    String previousContext = browser.browserContext();
+    if (previousContext != null) {
+      cdp.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", previousContext));
+    }
+    return browser.withContext(context);
+  }
+
+  /**
+   * Pages and frames (including closed ones) of the browser context are disposed together with the context.
+   * But if a page was opened in another context (e.g. by {@code switchTo().newWindow()}), its data would stay in the browser.
+   *
+   * @return url of any page or frame which doesn't belong to the given browser context
+   */
+  private static Optional<String> pageOutsideOf(HasCdp cdp, String browserContext) {
+    Map<String, Object> targets = cdp.executeCdpCommand("Target.getTargets", Map.of());
+    if (targets == null || !(targets.get("targetInfos") instanceof List<?> infos)) {
+      throw new WebDriverException("Failed to get browser targets: " + targets);
+    }
+    for (Object info : infos) {
+      if (info instanceof Map<?, ?> target && ("page".equals(target.get("type")) || "iframe".equals(target.get("type")))
+        && !browserContext.equals(target.get("browserContextId"))) {
+        return Optional.of(String.valueOf(target.get("url")));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Parameters of a new window: new browser contexts don't inherit size and position of existing windows.
+   */
+  private static Map<String, Object> newWindow(String browserContext, @Nullable Key key) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", "about:blank");
+    params.put("browserContextId", browserContext);
+    params.put("newWindow", true);
+    if (key != null) {
+      dimension(key.settings().get("browserSize")).ifPresent(size -> {
+        params.put("width", size[0]);
+        params.put("height", size[1]);
+      });
+      dimension(key.settings().get("browserPosition")).ifPresent(position -> {
+        params.put("left", position[0]);
+        params.put("top", position[1]);
+      });
+    }
+    return params;
+  }
+
+  static Optional<int[]> dimension(@Nullable Object setting) {
+    if (!(setting instanceof String value) || !value.matches("-?\\d+x-?\\d+")) {
+      return Optional.empty();
+    }
+    String[] parts = value.split("x", 2);
+    return Optional.of(new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])});
+  }
+
+  private static String string(@Nullable Map<String, Object> cdpResponse, String field) {
+    if (cdpResponse == null || !(cdpResponse.get(field) instanceof String value)) {
+      throw new WebDriverException("Missing " + field + " in CDP response: " + cdpResponse);
+    }
+    return value;
+  }
+
+  /**
+   * Copy of all settings: the background threads cannot read thread-local or mutable settings of the test thread.
+   */
+  private static Config snapshot(Config config) {
+    Map<String, @Nullable Object> values = new HashMap<>();
+    for (Method method : Config.class.getMethods()) {
+      if (method.getParameterCount() == 0 && !method.isDefault()) {
+        values.put(method.getName(), value(config, method));
+      }
+    }
+    return (Config) Proxy.newProxyInstance(Config.class.getClassLoader(), new Class<?>[]{Config.class},
+      (proxy, method, args) -> switch (method.getName()) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "toString" -> "Config" + values;
+        default -> values.get(method.getName());
+      });
+  }
+
+  @Nullable
+  private static Object value(Config config, Method method) {
+    try {
+      Object value = method.invoke(config);
+      return value instanceof MutableCapabilities capabilities ? new MutableCapabilities(capabilities) : value;
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to read setting " + method.getName(), e);
+    }
+  }
+
+  /**
+   * Settings that affect browser launch
+   */
+  record Key(Map<String, @Nullable Object> settings) {
+    private static final Key NONE = new Key(Map.of());
+
+    Key(Config config) {
+      this(launchSettings(config));
+    }
+
+    private static Map<String, @Nullable Object> launchSettings(Config config) {
+      Map<String, @Nullable Object> result = new HashMap<>();
+      result.put("browser", config.browser());
+      result.put("headless", config.headless());
+      result.put("remote", config.remote());
+      result.put("browserSize", config.browserSize());
+      result.put("browserVersion", config.browserVersion());
+      result.put("browserPosition", config.browserPosition());
+      result.put("webdriverLogsEnabled", config.webdriverLogsEnabled());
+      result.put("browserBinary", config.browserBinary());
+      result.put("pageLoadStrategy", config.pageLoadStrategy());
+      result.put("pageLoadTimeout", config.pageLoadTimeout());
+      result.put("browserCapabilities", config.browserCapabilities().asMap());
+      result.put("downloadsFolder", config.downloadsFolder());
+      result.put("remoteReadTimeout", config.remoteReadTimeout());
+      result.put("remoteConnectionTimeout", config.remoteConnectionTimeout());
+      return result;
+    }
+  }
+
+  /**
+   * A browser which can be taken from the pool (and returned back).
+   */
+  public record PooledBrowser(WebDriver webDriver, @Nullable File downloadsFolder, @Nullable Key key,
+                              @Nullable String browserContext) implements Disposable {
+    public PooledBrowser(WebDriver webDriver, @Nullable File downloadsFolder) {
+      this(webDriver, downloadsFolder, null, null);
+    }
+
+    PooledBrowser withKey(Key key) {
+      return new PooledBrowser(webDriver, downloadsFolder, key, browserContext);
+    }
+
+    PooledBrowser withContext(String browserContext) {
+      return new PooledBrowser(webDriver, downloadsFolder, key, browserContext);
+    }
+
+    @Override
+    public void dispose() {
+      try {
+        webDriver.quit();
+      }
+      catch (RuntimeException e) {
+        log.debug("Failed to close pooled browser: {}", e.toString());
+      }
+    }
+  }
+}
@@ -15,6 +15,15 @@ import static java.lang.System.currentTimeMillis;
 
 public class CloseDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CloseDriverCommand.class);
+  private final BrowserPool browserPool;
+
+  public CloseDriverCommand() {
+    this(BrowserPool.browserPool());
+  }
+
+  CloseDriverCommand(BrowserPool browserPool) {
+    this.browserPool = browserPool;
+  }
 
   public void close(WebDriverInstance wd) {
     WebDriver webDriver = wd.webDriver();
@@ -25,6 +34,11 @@ public class CloseDriverCommand {
       return;
     }
 
+    if (webDriver != null && browserPool.giveBack(webDriver, wd.config().browserPoolSize())) {
+      log.debug("Returned webdriver to pool: {} -> {}", threadId, webDriver);
+      return;
+    }
+
     if (downloadsFolder != null) {
       downloadsFolder.deleteIfEmpty();
     }
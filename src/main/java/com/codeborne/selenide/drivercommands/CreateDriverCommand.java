@@ -2,10 +2,13 @@ package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.BrowserDownloadsFolder;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.drivercommands.BrowserPool.PooledBrowser;
 import com.codeborne.selenide.impl.FileNamer;
 import com.codeborne.selenide.impl.Plugins;
 import com.codeborne.selenide.impl.WebDriverInstance;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.codeborne.selenide.metrics.SelenideMetrics;
+import com.codeborne.selenide.metrics.WebDriverMetricsListener;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import com.codeborne.selenide.proxy.SelenideProxyServerFactory;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
@@ -19,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.codeborne.selenide.impl.FileHelper.ensureFolderExists;
@@ -27,6 +31,7 @@ import static java.lang.Thread.currentThread;
 
 public class CreateDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CreateDriverCommand.class);
+  private static final String METRICS_LISTENER = "selenideMetrics";
   private final FileNamer fileNamer;
 
   public CreateDriverCommand() {
@@ -61,22 +66,45 @@ public class CreateDriverCommand {
         }
       }
 
-      File browserDownloadsFolder = config.remote() != null ? null :
-        ensureFolderExists(new File(config.downloadsFolder(), fileNamer.generateFileName()).getAbsoluteFile());
-      BrowserDownloadsFolder downloadsFolder = BrowserDownloadsFolder.from(browserDownloadsFolder);
-
-      WebDriver webdriver = factory.createWebDriver(config, browserProxy, browserDownloadsFolder);
+      BrowserPool browserPool = BrowserPool.browserPool();
+      PooledBrowser browser = browserPool.isApplicable(config, userProvidedProxy != null) ?
+        browserPool.checkout(config, settings -> launch(settings, factory, null)) :
+        launch(config, factory, browserProxy);
+      WebDriver webdriver = browser.webDriver();
+      BrowserDownloadsFolder downloadsFolder = BrowserDownloadsFolder.from(browser.downloadsFolder());
 
       log.debug("Created webdriver in thread {}: {} -> {}, downloadsFolder: {}",
         currentThread().getId(), webdriver.getClass().getSimpleName(), webdriver, downloadsFolder);
 
-      WebDriver webDriver = addListeners(webdriver, listeners);
+      WebDriver webDriver = addListeners(webdriver, withMetrics(config, listeners));
+      if (browser.key() != null) {
+        browserPool.lend(webDriver, browser);
+      }
       WebDriverInstance result = new WebDriverInstance(config, webDriver, selenideProxyServer, downloadsFolder);
       WebdriversRegistry.register(result);
       return result;
     });
   }
 
+  private PooledBrowser launch(Config config, WebDriverFactory factory, @Nullable Proxy browserProxy) {
+    File browserDownloadsFolder = config.remote() != null ? null :
+      ensureFolderExists(new File(config.downloadsFolder(), fileNamer.generateFileName()).getAbsoluteFile());
+    return new PooledBrowser(factory.createWebDriver(config, browserProxy, browserDownloadsFolder), browserDownloadsFolder);
+  }
+
+  private List<WebDriverListener> withMetrics(Config config, List<WebDriverListener> listeners) {
+    if (!config.metrics()) {
+      return listeners;
+    }
+
+    SelenideMetrics metrics = Plugins.inject(SelenideMetrics.class);
+    metrics.start(config);
+    SelenideLogger.addListener(METRICS_LISTENER, metrics);
+    List<WebDriverListener> result = new ArrayList<>(listeners);
+    result.add(new WebDriverMetricsListener(metrics));
+    return result;
+  }
+
   private WebDriver addListeners(WebDriver webdriver, List<WebDriverListener> listeners) {
     if (listeners.isEmpty()) {
       return webdriver;
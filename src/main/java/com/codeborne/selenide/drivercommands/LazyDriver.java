@@ -43,7 +43,7 @@ public class LazyDriver implements Driver {
   private WebDriverInstance wd;
 
   public LazyDriver(Config config, @Nullable Proxy userProvidedProxy, List<WebDriverListener> listeners) {
-    this(config, userProvidedProxy, listeners, new WebDriverFactory(), new BrowserHealthChecker(),
+    this(config, userProvidedProxy, listeners, new WebDriverFactory(), new BrowserHealthChecker(config),
       new CreateDriverCommand());
   }
 
@@ -11,6 +11,8 @@ import com.codeborne.selenide.proxy.AuthenticationFilter;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.URL;
 import java.util.regex.Pattern;
@@ -19,10 +21,12 @@ import static com.codeborne.selenide.AuthenticationType.BASIC;
 import static com.codeborne.selenide.FileDownloadMode.PROXY;
 import static com.codeborne.selenide.drivercommands.BasicAuthUtils.appendBasicAuthToURL;
 import static com.codeborne.selenide.drivercommands.BasicAuthUtils.registerBasicAuth;
+import static com.codeborne.selenide.drivercommands.BrowserHealthChecker.isBrowserClosed;
 import static java.util.Objects.requireNonNull;
 import static java.util.regex.Pattern.DOTALL;
 
 public class Navigator {
+  private static final Logger log = LoggerFactory.getLogger(Navigator.class);
   private static final Pattern ABSOLUTE_URL_REGEX = Pattern.compile("^[a-zA-Z-]+:.*", DOTALL);
 
   public void open(SelenideDriver driver, String relativeOrAbsoluteUrl) {
@@ -64,9 +68,7 @@ public class Navigator {
 
     SelenideLogger.run("open", absoluteUrl, () -> {
       try {
-        WebDriver webDriver = driver.getAndCheckWebDriver();
-        String url = prepareAuthentication(driver, absoluteUrl, authenticationType, credentials);
-        webDriver.navigate().to(url);
+        navigateTo(driver, absoluteUrl, authenticationType, credentials, true);
       }
       catch (WebDriverException e) {
         e.addInfo("selenide.url", absoluteUrl);
@@ -79,6 +81,28 @@ public class Navigator {
     });
   }
 
+  private void navigateTo(SelenideDriver driver,
+                          String absoluteUrl,
+                          @Nullable AuthenticationType authenticationType,
+                          @Nullable Credentials credentials,
+                          boolean retryIfBrowserClosed) {
+    WebDriver webDriver = driver.getAndCheckWebDriver();
+    String url = prepareAuthentication(driver, absoluteUrl, authenticationType, credentials);
+    try {
+      webDriver.navigate().to(url);
+      BrowserHealthChecker.markAlive(webDriver);
+    }
+    catch (WebDriverException e) {
+      if (!retryIfBrowserClosed || !isBrowserClosed(e)) {
+        throw e;
+      }
+      // The health check might have been skipped (see Config.browserHealthCheckInterval)
+      log.info("Browser has been closed meanwhile, let's check it once again: {}", e.toString());
+      BrowserHealthChecker.forget(webDriver);
+      navigateTo(driver, absoluteUrl, authenticationType, credentials, false);
+    }
+  }
+
   public void open(SelenideDriver driver) {
     checkThatProxyIsEnabled(driver.config());
     SelenideLogger.run("open", "", driver::getAndCheckWebDriver);
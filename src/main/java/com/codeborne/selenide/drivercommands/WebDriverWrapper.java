@@ -20,7 +20,7 @@ public class WebDriverWrapper implements Driver {
   private static final Logger log = LoggerFactory.getLogger(WebDriverWrapper.class);
 
   private final WebDriverInstance wd;
-  private final BrowserHealthChecker browserHealthChecker = new BrowserHealthChecker();
+  private final BrowserHealthChecker browserHealthChecker;
 
   public WebDriverWrapper(Config config, WebDriver webDriver,
                           @Nullable SelenideProxyServer selenideProxy, DownloadsFolder browserDownloadsFolder) {
@@ -29,6 +29,7 @@ public class WebDriverWrapper implements Driver {
 
   private WebDriverWrapper(WebDriverInstance wd) {
     this.wd = wd;
+    this.browserHealthChecker = new BrowserHealthChecker(wd.config());
   }
 
   @Override
@@ -0,0 +1,128 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Condition.clickable;
+import static com.codeborne.selenide.Condition.editable;
+import static com.codeborne.selenide.Condition.interactable;
+import static com.codeborne.selenide.impl.Lazy.lazyEvaluated;
+import static java.lang.Thread.currentThread;
+import static java.lang.reflect.Proxy.newProxyInstance;
+
+/**
+ * Checks conditions {@link com.codeborne.selenide.Condition#interactable}, {@link com.codeborne.selenide.Condition#clickable}
+ * and {@link com.codeborne.selenide.Condition#editable} using a single JavaScript call
+ * (instead of separate WebDriver calls {@code isDisplayed}, {@code getCssValue}, {@code isEnabled} and {@code getAttribute}).
+ *
+ * <p>
+ *   The conditions themselves are evaluated as usual, but against an element with pre-fetched state.
+ *   Thus the verdict and the error messages are the same as without this check.
+ * </p>
+ *
+ * @see com.codeborne.selenide.Config#checkActionabilityViaJs()
+ */
+final class ActionabilityCheck {
+  private static final Logger log = LoggerFactory.getLogger(ActionabilityCheck.class);
+  private static final String IS_DISPLAYED_ATOM = "org/openqa/selenium/remote/isDisplayed.js";
+  private static final JavaScript elementState = new JavaScript("element-state.js");
+  private static final Lazy<Boolean> atomAvailable = lazyEvaluated(
+    () -> currentThread().getContextClassLoader().getResource(IS_DISPLAYED_ATOM) != null
+  );
+  private static final List<WebElementCondition> supportedConditions = List.of(interactable, clickable, editable);
+
+  private ActionabilityCheck() {
+  }
+
+  static boolean canCheck(Driver driver, WebElementCondition condition) {
+    return supportedConditions.contains(condition)
+      && driver.config().checkActionabilityViaJs()
+      && driver.supportsJavascript()
+      && atomAvailable.get();
+  }
+
+  /**
+   * @param click if given, the element is also clicked (in the same JS call) - but only if it's clickable.
+   * @return the element with pre-fetched state, or the original element if the state could not be fetched via JS
+   */
+  static WebElement prefetch(Driver driver, WebElement element, @Nullable ClickViaJs click) {
+    try {
+      Map<String, Object> state = elementState.execute(driver, element, click == null ? null : click.toMap());
+      if (state == null) {
+        return element;
+      }
+      if (click != null) {
+        click.performed = Boolean.TRUE.equals(state.get("clicked"));
+      }
+      return withState(element, state);
+    }
+    catch (StaleElementReferenceException | NoSuchElementException elementDoesNotExist) {
+      throw elementDoesNotExist;
+    }
+    catch (WebDriverException | ClassCastException probablyBrowserDoesNotSupportJavaScript) {
+      log.debug("Failed to check element state via JS: {}", probablyBrowserDoesNotSupportJavaScript.toString());
+      return element;
+    }
+  }
+
+  private static WebElement withState(WebElement element, Map<String, Object> state) {
+    return (WebElement) newProxyInstance(
+      currentThread().getContextClassLoader(),
+      new Class<?>[]{WebElement.class, WrapsElement.class},
+      (proxy, method, args) -> switch (method.getName()) {
+        case "isDisplayed" -> Boolean.TRUE.equals(state.get("displayed"));
+        case "isEnabled" -> Boolean.TRUE.equals(state.get("enabled"));
+        case "getCssValue" -> "opacity".equals(args[0]) ? state.get("opacity") : delegate(element, method, args);
+        case "getAttribute" -> "readonly".equals(args[0]) ? state.get("readonly") : delegate(element, method, args);
+        case "getWrappedElement" -> element;
+        default -> delegate(element, method, args);
+      });
+  }
+
+  @Nullable
+  private static Object delegate(WebElement element, Method method, Object @Nullable [] args) throws Throwable {
+    try {
+      return method.invoke(element, args);
+    }
+    catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Click via JavaScript which should be performed in the same JS call (if the element is clickable)
+   */
+  static final class ClickViaJs {
+    private final int offsetX;
+    private final int offsetY;
+    private final Map<String, Boolean> eventOptions;
+    private boolean performed;
+
+    ClickViaJs(int offsetX, int offsetY, Map<String, Boolean> eventOptions) {
+      this.offsetX = offsetX;
+      this.offsetY = offsetY;
+      this.eventOptions = eventOptions;
+    }
+
+    boolean performed() {
+      return performed;
+    }
+
+    private Map<String, Object> toMap() {
+      return Map.of("offsetX", offsetX, "offsetY", offsetY, "options", eventOptions);
+    }
+  }
+}
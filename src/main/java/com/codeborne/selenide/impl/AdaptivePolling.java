@@ -0,0 +1,63 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+
+/**
+ * Checks often at the beginning (most elements appear or change within a few dozens of milliseconds),
+ * and then less and less often: the delay doubles after every check up to {@code maxDelayMs}.
+ *
+ * <ul>
+ *   <li>Delays are slightly randomized ("jitter"), so that parallel tests don't hit the browser grid in sync.</li>
+ *   <li>The last delay is shortened, so that the condition is checked once more right before timeout.</li>
+ *   <li>Polling interval is ignored, except that delays can grow up to polling interval if it's bigger than {@code maxDelayMs}.</li>
+ * </ul>
+ */
+public class AdaptivePolling implements PollingStrategy {
+  private final long firstDelayMs;
+  private final long maxDelayMs;
+  private final double jitter;
+
+  public AdaptivePolling() {
+    this(10, 1000, 0.1);
+  }
+
+  /**
+   * @param firstDelayMs delay after the first check
+   * @param maxDelayMs   max delay between checks
+   * @param jitter       max deviation of a delay, e.g. 0.1 means +-10%
+   */
+  public AdaptivePolling(long firstDelayMs, long maxDelayMs, double jitter) {
+    if (firstDelayMs <= 0 || maxDelayMs < firstDelayMs) {
+      throw new IllegalArgumentException("Invalid delays: first=" + firstDelayMs + ", max=" + maxDelayMs);
+    }
+    if (jitter < 0 || jitter >= 1) {
+      throw new IllegalArgumentException("Jitter must be in range [0, 1), but was: " + jitter);
+    }
+    this.firstDelayMs = firstDelayMs;
+    this.maxDelayMs = maxDelayMs;
+    this.jitter = jitter;
+  }
+
+  @Override
+  public long delay(int attempt, long pollingInterval) {
+    long maxDelay = max(maxDelayMs, pollingInterval);
+    long delay = min(firstDelayMs << min(max(attempt - 1, 0), 30), maxDelay);
+    return jitter == 0 ? delay : round(delay * (1 + jitter * ThreadLocalRandom.current().nextDouble(-1, 1)));
+  }
+
+  @Override
+  public boolean checkAtDeadline() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "adaptive(%s..%s ms, jitter: %s)".formatted(firstDelayMs, maxDelayMs, jitter);
+  }
+}
@@ -0,0 +1,127 @@
+package com.codeborne.selenide.impl;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+
+import static com.codeborne.selenide.impl.ThreadNamer.named;
+import static java.lang.ThreadLocal.withInitial;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Writes report files (screenshots, page sources) in background threads.
+ *
+ * <p>
+ *   The number of waiting tasks is limited: if the queue is full, the task is executed by the calling thread
+ *   (thus the test slows down instead of consuming memory infinitely).
+ * </p>
+ *
+ * <p>
+ *   Test framework extensions should call {@link #flush(Duration)} in the end of test
+ *   to make sure all files of the test have been written.
+ * </p>
+ */
+public class ArtifactWriter {
+  private static final Logger log = LoggerFactory.getLogger(ArtifactWriter.class);
+  private static final int THREADS = 2;
+  private static final int QUEUE_CAPACITY = 64;
+
+  private final ThreadPoolExecutor executor;
+  private final Map<File, CompletableFuture<File>> pendingFiles = new ConcurrentHashMap<>();
+  private final ThreadLocal<List<CompletableFuture<File>>> threadTasks = withInitial(ArrayList::new);
+
+  protected ArtifactWriter() {
+    this(THREADS, QUEUE_CAPACITY);
+  }
+
+  ArtifactWriter(int threads, int queueCapacity) {
+    executor = new ThreadPoolExecutor(threads, threads, 1, SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+      named("selenide-artifact-writer-"), new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * @param file   the file which is being written (used only for tracking and logging)
+   * @param writer the task that writes the file
+   * @return future which gets completed when the file has been written
+   */
+  public CompletableFuture<File> submit(File file, Runnable writer) {
+    CompletableFuture<File> future = new CompletableFuture<>();
+    pendingFiles.put(file, future);
+    List<CompletableFuture<File>> tasks = threadTasks.get();
+    tasks.removeIf(CompletableFuture::isDone);
+    tasks.add(future);
+
+    executor.execute(() -> {
+      try {
+        writer.run();
+        future.complete(file);
+      }
+      catch (RuntimeException | Error e) {
+        log.error("Failed to write {}", file, e);
+        future.completeExceptionally(e);
+      }
+      finally {
+        pendingFiles.remove(file, future);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * @return future which gets completed when the file has been written
+   * (or a completed future if the file is not being written)
+   */
+  public CompletableFuture<?> completion(@Nullable File file) {
+    if (file == null) {
+      return completedFuture(null);
+    }
+    @Nullable CompletableFuture<File> future = pendingFiles.get(file);
+    return future == null ? completedFuture(file) : future;
+  }
+
+  /**
+   * Wait until all files submitted by the current thread have been written.
+   *
+   * @return false if some files have not been written in the given timeout
+   */
+  public boolean flush(Duration timeout) {
+    List<CompletableFuture<File>> tasks = threadTasks.get();
+    if (tasks.isEmpty()) {
+      return true;
+    }
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(timeout.toMillis(), MILLISECONDS);
+      return true;
+    }
+    catch (ExecutionException failedToWriteSomeFile) {
+      // it has already been logged
+      return true;
+    }
+    catch (TimeoutException e) {
+      log.warn("Not all report files have been written in {} ms", timeout.toMillis());
+      return false;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    finally {
+      tasks.removeIf(CompletableFuture::isDone);
+    }
+  }
+}
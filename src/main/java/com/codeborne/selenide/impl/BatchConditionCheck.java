@@ -0,0 +1,71 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.WebElementCondition;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.codeborne.selenide.impl.Lazy.lazyEvaluated;
+import static java.lang.Thread.currentThread;
+
+/**
+ * Checks a condition for all elements of a collection using a single JavaScript call
+ * (instead of one or more WebDriver calls per element).
+ *
+ * <p>
+ *   Works only for conditions which provide {@link WebElementCondition#jsPredicate()}.
+ *   If the condition cannot be checked via JavaScript, the caller should check elements one by one.
+ * </p>
+ */
+final class BatchConditionCheck {
+  private static final Logger log = LoggerFactory.getLogger(BatchConditionCheck.class);
+  private static final JavaScript checkElements = new JavaScript("check-elements.js");
+  private static final Lazy<Boolean> atoms = lazyEvaluated(() ->
+    Stream.of("org/openqa/selenium/remote/isDisplayed.js", "org/openqa/selenium/remote/getAttribute.js")
+      .allMatch(atom -> currentThread().getContextClassLoader().getResource(atom) != null)
+  );
+
+  private BatchConditionCheck() {
+  }
+
+  /**
+   * @return true if Selenium functions used by "element-predicate.js" are available in classpath
+   */
+  static boolean atomsAvailable() {
+    return atoms.get();
+  }
+
+  /**
+   * @return for every element: true if it matches the condition,
+   *         or null if the condition could not be checked via JavaScript
+   */
+  @Nullable
+  static List<Boolean> check(Driver driver, List<WebElement> elements, WebElementCondition condition) {
+    if (elements.isEmpty()) {
+      return List.of();
+    }
+    List<Object> predicate = condition.jsPredicate();
+    if (predicate == null || !driver.supportsJavascript() || !atomsAvailable()) {
+      return null;
+    }
+
+    try {
+      List<Boolean> result = checkElements.execute(driver, elements, predicate);
+      if (result == null || result.size() != elements.size()) {
+        log.debug("Unexpected result of checking {} elements for {}: {}", elements.size(), condition, result);
+        return null;
+      }
+      return result;
+    }
+    catch (WebDriverException | ClassCastException e) {
+      log.debug("Failed to check {} elements for {} via JS: {}", elements.size(), condition, e.toString());
+      return null;
+    }
+  }
+}
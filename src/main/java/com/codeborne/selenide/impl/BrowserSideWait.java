@@ -0,0 +1,128 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.WebElementCondition;
+import com.codeborne.selenide.WebElementsCondition;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static com.codeborne.selenide.commands.Util.argsToConditions;
+import static java.lang.Math.min;
+
+/**
+ * Waits for a condition in browser instead of sleeping between checks.
+ *
+ * <p>
+ *   A single asynchronous JavaScript call re-checks the condition on every DOM mutation and animation frame,
+ *   and returns as soon as the condition is met or the time slice is over.
+ *   The condition is still checked by Selenide after the wait, so the browser-side check only decides when to check again.
+ * </p>
+ *
+ * <p>
+ *   Works only for elements located by CSS/XPath selectors, and for conditions which provide a JavaScript predicate
+ *   (see {@link WebElementCondition#jsPredicate()} and {@link WebElementsCondition#jsPredicate()}).
+ *   Otherwise, the caller should sleep as usual.
+ * </p>
+ *
+ * @see com.codeborne.selenide.Config#waitViaJs()
+ */
+public final class BrowserSideWait {
+  private static final Logger log = LoggerFactory.getLogger(BrowserSideWait.class);
+  private static final JavaScript waitForCondition = new JavaScript("wait-for-condition.js");
+  private static final Set<String> SHOULD = Set.of("should", "shouldBe", "shouldHave");
+  private static final Set<String> SHOULD_NOT = Set.of("shouldNot", "shouldNotBe", "shouldNotHave");
+
+  /**
+   * Max duration of a single JavaScript call (should be well below WebDriver script timeout)
+   */
+  static final long MAX_SLICE_MS = 2000;
+
+  private BrowserSideWait() {
+  }
+
+  /**
+   * Wait until the element matches conditions of the given "should*" method.
+   *
+   * @return true if the wait has been performed in browser,
+   *         false if the caller should sleep as usual
+   */
+  public static boolean waitFor(WebElementSource element, String methodName, Object @Nullable [] args, long remainingMs) {
+    boolean invert = SHOULD_NOT.contains(methodName);
+    if (!(invert || SHOULD.contains(methodName)) || !isEnabled(element.driver(), remainingMs)) {
+      return false;
+    }
+
+    List<Object> predicates = new ArrayList<>();
+    boolean missingElementMatches = true;
+    for (WebElementCondition condition : argsToConditions(args)) {
+      WebElementCondition check = invert ? condition.negate() : condition;
+      List<Object> predicate = check.jsPredicate();
+      if (predicate == null) return false;
+      predicates.add(predicate);
+      missingElementMatches &= check.missingElementSatisfiesCondition();
+    }
+    if (predicates.isEmpty()) return false;
+
+    List<Object> predicate = predicates.size() == 1 ? predicates.get(0) : and(predicates);
+    return waitFor(element.driver(), SelectorChain.locatorOf(element).orElse(null), predicate, missingElementMatches, remainingMs);
+  }
+
+  /**
+   * Wait until the collection matches the condition.
+   *
+   * @return true if the wait has been performed in browser,
+   *         false if the caller should sleep as usual
+   */
+  public static boolean waitFor(CollectionSource collection, WebElementsCondition condition, long remainingMs) {
+    List<Object> predicate = condition.jsPredicate();
+    if (predicate == null || !(collection instanceof BySelectorCollection bySelector)
+      || !isEnabled(collection.driver(), remainingMs)) {
+      return false;
+    }
+    return waitFor(collection.driver(), bySelector.locator().orElse(null), predicate,
+      condition.missingElementsSatisfyCondition(), remainingMs);
+  }
+
+  private static boolean isEnabled(Driver driver, long remainingMs) {
+    return remainingMs > 0
+      && driver.config().waitViaJs()
+      && driver.config().selectorMode() != Sizzle
+      && driver.supportsJavascript()
+      && BatchConditionCheck.atomsAvailable();
+  }
+
+  private static List<Object> and(List<Object> predicates) {
+    List<Object> and = new ArrayList<>(predicates.size() + 1);
+    and.add("and");
+    and.addAll(predicates);
+    return and;
+  }
+
+  private static boolean waitFor(Driver driver, @Nullable SelectorChain locator, List<Object> predicate,
+                                 boolean missingElementMatches, long remainingMs) {
+    if (locator == null) {
+      return false;
+    }
+
+    try {
+      Object result = waitForCondition.executeAsync(driver,
+        locator.rootContext(), locator.stepsJson(), predicate, missingElementMatches, min(remainingMs, MAX_SLICE_MS));
+      log.debug("Waited for {} in browser: {}", predicate, result);
+
+      // "satisfied" means that browser considers the condition met, but Selenide doesn't.
+      // Let's not spam browser with checks in this case.
+      return "changed".equals(result) || "timeout".equals(result);
+    }
+    catch (WebDriverException e) {
+      log.debug("Failed to wait for {} in browser: {}", predicate, e.toString());
+      return false;
+    }
+  }
+}
@@ -6,6 +6,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.codeborne.selenide.impl.Alias.NONE;
 import static com.codeborne.selenide.impl.Plugins.inject;
@@ -40,6 +41,18 @@ public class BySelectorCollection implements CollectionSource {
     return elementSelector.findElement(driver, parent, selector, index);
   }
 
+  @Override
+  public List<WebElement> getElements(int fromIndex, int count) {
+    return elementSelector.findElements(driver, parent, selector, fromIndex, count);
+  }
+
+  /**
+   * Locator of the collection which can be re-evaluated in browser (see {@link BrowserSideWait}).
+   */
+  Optional<SelectorChain> locator() {
+    return SelectorChain.compileSlice(parent, selector);
+  }
+
   @Override
   public String getSearchCriteria() {
     return parent == null ? describe.selector(selector) :
@@ -42,6 +42,16 @@ public class CollectionElement extends WebElementSource {
     return collection.getElement(index);
   }
 
+  /**
+   * If the element was taken from a page of collection (see {@link SelenideElementPagedIterator}),
+   * the page gets reloaded.
+   */
+  @Override
+  public boolean resetSearchContext() {
+    boolean wasCached = super.resetSearchContext();
+    return collection instanceof CollectionPage page ? page.reset() || wasCached : wasCached;
+  }
+
   @Override
   public String getSearchCriteria() {
     return collection.getSearchCriteria() + '[' + index + ']';
@@ -36,6 +36,15 @@ public class CollectionElementByCondition extends WebElementSource {
   public WebElement getWebElement() {
     List<WebElement> list = collection.getElements();
 
+    List<Boolean> matches = BatchConditionCheck.check(driver(), list, condition);
+    if (matches != null) {
+      int index = matches.indexOf(true);
+      if (index >= 0) {
+        return list.get(index);
+      }
+      throw new NoSuchElementException("Cannot locate an element " + description());
+    }
+
     for (WebElement element : list) {
       if (condition.check(driver(), element).verdict() == ACCEPT) {
         return element;
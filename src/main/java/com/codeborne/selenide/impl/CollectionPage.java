@@ -0,0 +1,107 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * A page (range of indexes) of a big collection.
+ * Its elements are loaded once and reused until some of them becomes stale - then the whole page is reloaded.
+ *
+ * @see SelenideElementPagedIterator
+ */
+class CollectionPage implements CollectionSource {
+  private final CollectionSource collection;
+  private final int fromIndex;
+  private final int pageSize;
+  @Nullable
+  private volatile List<WebElement> elements;
+
+  CollectionPage(CollectionSource collection, int fromIndex, int pageSize) {
+    this.collection = collection;
+    this.fromIndex = fromIndex;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * @return elements of this page (empty list if the collection doesn't have so many elements)
+   */
+  @Override
+  public List<WebElement> getElements() {
+    List<WebElement> result = elements;
+    if (result == null) {
+      result = collection.getElements(fromIndex, pageSize);
+      elements = result;
+    }
+    return result;
+  }
+
+  /**
+   * @param index index of the element in the whole collection
+   */
+  @Override
+  public WebElement getElement(int index) {
+    List<WebElement> page = getElements();
+    int indexInPage = index - fromIndex;
+    if (indexInPage < 0 || indexInPage >= page.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (fromIndex + page.size()));
+    }
+    return page.get(indexInPage);
+  }
+
+  int fromIndex() {
+    return fromIndex;
+  }
+
+  boolean isLastPage() {
+    return getElements().size() < pageSize;
+  }
+
+  /**
+   * Forget the loaded elements: they will be reloaded on the next call.
+   *
+   * @return true if the elements were loaded
+   */
+  boolean reset() {
+    boolean wasLoaded = elements != null;
+    elements = null;
+    return wasLoaded;
+  }
+
+  @Override
+  public String getSearchCriteria() {
+    return collection.getSearchCriteria();
+  }
+
+  @Override
+  public String description() {
+    return collection.description();
+  }
+
+  @Override
+  public String shortDescription() {
+    return collection.shortDescription();
+  }
+
+  @Override
+  public String toString() {
+    return collection.toString();
+  }
+
+  @Override
+  public Driver driver() {
+    return collection.driver();
+  }
+
+  @Override
+  public Alias getAlias() {
+    return collection.getAlias();
+  }
+
+  @Override
+  public void setAlias(String alias) {
+    collection.setAlias(alias);
+  }
+}
@@ -3,8 +3,11 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Driver;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.lang.Math.min;
+
 public interface CollectionSource {
   /**
    * get elements of this collection (probably cached).
@@ -16,6 +19,23 @@ public interface CollectionSource {
    */
   WebElement getElement(int index);
 
+  /**
+   * get up to {@code count} elements of this collection starting from {@code fromIndex}.
+   * Allows loading a big collection page by page.
+   */
+  default List<WebElement> getElements(int fromIndex, int count) {
+    return slice(getElements(), fromIndex, count);
+  }
+
+  /**
+   * @return up to {@code count} elements starting from {@code fromIndex} (a copy, not a view of the given list)
+   */
+  static List<WebElement> slice(List<WebElement> elements, int fromIndex, int count) {
+    int from = min(fromIndex, elements.size());
+    int to = (int) min((long) fromIndex + count, elements.size());
+    return new ArrayList<>(elements.subList(from, to));
+  }
+
   String getSearchCriteria();
 
   default String description() {
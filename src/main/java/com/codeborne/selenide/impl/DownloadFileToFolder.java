@@ -4,6 +4,7 @@ import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.DownloadsFolder;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.ex.FileNotDownloadedError;
 import com.codeborne.selenide.files.DownloadAction;
 import com.codeborne.selenide.files.DownloadedFile;
@@ -63,10 +64,12 @@ public class DownloadFileToFolder {
     folder.cleanupBeforeDownload();
     long downloadStartedAt = currentTimeMillis();
 
-    action.perform(driver, clickable);
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(folder)) {
+      action.perform(driver, clickable);
 
-    waitForNewFiles(driver, fileFilter, folder, downloadStartedAt, timeout, incrementTimeout, pollingInterval);
-    waitUntilDownloadsCompleted(driver, folder, fileFilter, timeout, incrementTimeout, pollingInterval);
+      waitForNewFiles(driver, fileFilter, watchedFolder, downloadStartedAt, timeout, incrementTimeout, pollingInterval);
+      waitUntilDownloadsCompleted(driver, watchedFolder, fileFilter, timeout, incrementTimeout, pollingInterval);
+    }
 
     Downloads newDownloads = new Downloads(folder.filesNewerThan(downloadStartedAt));
     if (log.isInfoEnabled()) {
@@ -99,7 +102,9 @@ public class DownloadFileToFolder {
 
   private void waitUntilFileDisappears(Driver driver, DownloadsFolder folder, Set<String> extension, FileFilter filter,
                                        long timeout, long incrementTimeout, long pollingInterval) {
-    for (long start = currentTimeMillis(); currentTimeMillis() - start <= timeout; pause(pollingInterval)) {
+    long start = currentTimeMillis();
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
+    for (; !stopwatch.isTimeoutReached(); pause(folder, stopwatch.nextDelay(pollingInterval))) {
       if (!folder.hasFiles(extension, filter)) {
         log.debug("No {} files found, conclude download is completed (filter: {})", extension, filter);
         return;
@@ -119,7 +124,8 @@ public class DownloadFileToFolder {
     Map<String, Long> times = folder.modificationTimes();
     long lastModifiedAt = currentTimeMillis();
 
-    for (long start = currentTimeMillis(); currentTimeMillis() - start < timeout; pause(pollingInterval)) {
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
+    for (; !stopwatch.isTimeoutReached(); pause(folder, stopwatch.nextDelay(pollingInterval))) {
       var newTimes = folder.modificationTimes();
       if (!newTimes.equals(times)) {
         log.debug("Files has been modified - old: {}, new: {}", times, newTimes);
@@ -143,16 +149,21 @@ public class DownloadFileToFolder {
     }
 
     long start = currentTimeMillis();
-    for (; currentTimeMillis() - start <= timeout; pause(pollingInterval)) {
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
+    for (; !stopwatch.isTimeoutReached(); pause(folder, stopwatch.nextDelay(pollingInterval))) {
       Downloads downloads = new Downloads(folder.filesNewerThan(clickMoment));
       List<DownloadedFile> matchingFiles = downloads.files(fileFilter);
       if (!matchingFiles.isEmpty()) {
-        log.debug("Matching files found: {}, all new files: {}, all files: {}",
-          matchingFiles, downloads.filesAsString(), folder.filesAsString());
+        if (log.isDebugEnabled()) {
+          log.debug("Matching files found: {}, all new files: {}, all files: {}",
+            matchingFiles, downloads.filesAsString(), folder.filesAsString());
+        }
         return;
       }
-      log.debug("Matching files not found: {}, all new files: {}, all files: {}",
-        matchingFiles, downloads.filesAsString(), folder.filesAsString());
+      if (log.isDebugEnabled()) {
+        log.debug("Matching files not found: {}, all new files: {}, all files: {}",
+          matchingFiles, downloads.filesAsString(), folder.filesAsString());
+      }
       failFastIfNoChanges(driver, folder, fileFilter, start, timeout, incrementTimeout);
     }
 
@@ -181,7 +192,15 @@ public class DownloadFileToFolder {
     return now - Math.max(lastFileUpdate, downloadStartedAt);
   }
 
-  private void pause(long milliseconds) {
+  /**
+   * Wait for the next check: until any file in the folder has changed (if the folder is watched)
+   * or just for the given delay.
+   */
+  private void pause(DownloadsFolder folder, long milliseconds) {
+    if (folder instanceof WatchedDownloadsFolder watchedFolder) {
+      watchedFolder.awaitChanges(milliseconds);
+      return;
+    }
     try {
       sleep(milliseconds);
     } catch (InterruptedException e) {
@@ -101,7 +101,7 @@ public class DownloadFileWithCdp {
                                            long timeout, long incrementTimeout, CdpDownloads downloads) {
     long pollingInterval = Math.max(driver.config().pollingInterval(), 100);
     long downloadStartedAt = currentTimeMillis();
-    Stopwatch stopwatch = new Stopwatch(timeout);
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
     do {
       Optional<CdpDownload> downloadedFile = downloads.find(fileFilter);
       if (downloadedFile.isPresent()) {
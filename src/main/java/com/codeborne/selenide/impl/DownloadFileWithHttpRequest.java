@@ -29,6 +29,7 @@ import org.apache.hc.core5.http.protocol.BasicHttpContext;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.TrustStrategy;
+import org.apache.hc.core5.util.TimeValue;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
@@ -42,14 +43,23 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
+import static com.codeborne.selenide.impl.Lazy.lazyEvaluated;
 import static com.codeborne.selenide.impl.Plugins.inject;
+import static com.codeborne.selenide.impl.ThreadNamer.named;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNullElse;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
@@ -58,10 +68,19 @@ import static org.apache.hc.client5.http.protocol.HttpClientContext.COOKIE_STORE
 
 public class DownloadFileWithHttpRequest {
   private static final Logger log = LoggerFactory.getLogger(DownloadFileWithHttpRequest.class);
+  private static final int MAX_CONNECTIONS = 50;
+  private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+  private static final TimeValue MAX_IDLE_TIME = TimeValue.ofSeconds(30);
+
   private final ElementDescriber describe = inject(ElementDescriber.class);
 
   protected boolean ignoreSelfSignedCerts = true;
 
+  private final Lazy<PoolingHttpClientConnectionManager> defaultConnectionManager =
+    lazyEvaluated(() -> createConnectionManager(null));
+  private final Lazy<PoolingHttpClientConnectionManager> trustingConnectionManager =
+    lazyEvaluated(this::createTrustingConnectionManager);
+
   private final Downloader downloader;
   private final HttpHelper httpHelper = new HttpHelper();
 
@@ -93,14 +112,94 @@ public class DownloadFileWithHttpRequest {
 
   public File download(Driver driver, String relativeOrAbsoluteUrl, long timeout, FileFilter fileFilter) {
     String url = makeAbsoluteUrl(driver.config(), relativeOrAbsoluteUrl);
+    HttpGet httpGet = prepareRequest(driver, url, timeout);
+    return execute(driver, url, httpGet, createHttpContext(driver), timeout, fileFilter);
+  }
 
-    MemorizingRedirectStrategy redirectStrategy = new MemorizingRedirectStrategy();
-    try (CloseableHttpClient httpClient = createHttpClient(redirectStrategy)) {
+  /**
+   * Download multiple files in parallel.
+   * <p>
+   * Requests are prepared (cookies and headers are taken from the browser) in the current thread,
+   * and then executed in parallel threads reusing pooled connections.
+   * Every file is saved to its own unique folder (see {@link Downloader#prepareTargetFolder(Config)}).
+   * </p>
+   *
+   * @return downloaded files in the same order as given urls
+   * @throws FileNotDownloadedError if any of files could not be downloaded
+   */
+  public List<File> downloadAll(Driver driver, List<URI> urls, long timeout, FileFilter fileFilter) {
+    HttpContext sharedContext = createHttpContext(driver);
+    List<Callable<File>> downloads = new ArrayList<>(urls.size());
+    for (URI uri : urls) {
+      String url = makeAbsoluteUrl(driver.config(), uri.toASCIIString());
+      HttpGet httpGet = prepareRequest(driver, url, timeout);
+      downloads.add(() -> execute(driver, url, httpGet, new BasicHttpContext(sharedContext), timeout, fileFilter));
+    }
+    if (downloads.size() < 2) {
+      return downloads.isEmpty() ? List.of() : List.of(call(downloads.get(0), timeout));
+    }
+
+    ExecutorService executor = newFixedThreadPool(Math.min(downloads.size(), MAX_CONNECTIONS_PER_ROUTE), named("selenide-download-"));
+    try {
+      List<Future<File>> futures = executor.invokeAll(downloads);
+      List<File> files = new ArrayList<>(futures.size());
+      for (Future<File> future : futures) {
+        files.add(call(future::get, timeout));
+      }
+      return files;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FileNotDownloadedError("Interrupted while downloading " + urls, timeout, e);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static File call(Callable<File> download, long timeout) {
+    try {
+      return download.call();
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new FileNotDownloadedError("Failed to download file in " + timeout + " ms.", timeout, (Exception) cause);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FileNotDownloadedError("Interrupted while downloading file", timeout, e);
+    }
+    catch (RuntimeException e) {
+      throw e;
+    }
+    catch (Exception e) {
+      throw new FileNotDownloadedError("Failed to download file in " + timeout + " ms.", timeout, e);
+    }
+  }
+
+  private HttpGet prepareRequest(Driver driver, String url, long timeout) {
+    try {
       Resource resource = parseUrl(url);
       HttpGet httpGet = new HttpGet(resource.uri());
       configureHttpGet(httpGet, timeout);
       addHttpHeaders(driver, httpGet, resource.credentials());
-      return httpClient.execute(httpGet, createHttpContext(driver), response -> {
+      return httpGet;
+    }
+    catch (IOException e) {
+      throw new FileNotDownloadedError("Failed to download " + url + " in " + timeout + " ms.", timeout, e);
+    }
+  }
+
+  private File execute(Driver driver, String url, HttpGet httpGet, HttpContext httpContext, long timeout, FileFilter fileFilter) {
+    MemorizingRedirectStrategy redirectStrategy = new MemorizingRedirectStrategy();
+    try (CloseableHttpClient httpClient = createHttpClient(redirectStrategy)) {
+      return httpClient.execute(httpGet, httpContext, response -> {
           String responseUrl = requireNonNullElse(redirectStrategy.lastRedirectUrl, url);
           return handleResponse(driver, timeout, fileFilter, responseUrl, response);
         }
@@ -111,6 +210,11 @@ public class DownloadFileWithHttpRequest {
     }
   }
 
+  /**
+   * Creates a lightweight http client which uses a shared pool of connections
+   * (so that repeated downloads from the same host reuse TCP connections and TLS sessions).
+   * Closing the client doesn't close the pool.
+   */
   private CloseableHttpClient createHttpClient(MemorizingRedirectStrategy redirectStrategy) throws IOException {
     return ignoreSelfSignedCerts ? createTrustingHttpClient(redirectStrategy) : createDefaultHttpClient(redirectStrategy);
   }
@@ -169,9 +273,33 @@ public class DownloadFileWithHttpRequest {
   protected CloseableHttpClient createDefaultHttpClient(RedirectStrategy redirectStrategy) {
     return HttpClients.custom()
       .setRedirectStrategy(redirectStrategy)
+      .setConnectionManager(pooled(defaultConnectionManager.get()))
+      .setConnectionManagerShared(true)
       .build();
   }
 
+  /**
+   * Create a pool of connections which is shared by all downloads
+   * (of this instance of {@link DownloadFileWithHttpRequest}) with the same "trust all certificates" setting.
+   *
+   * @param socketFactoryRegistry null means default socket factories
+   */
+  protected PoolingHttpClientConnectionManager createConnectionManager(
+    @Nullable Registry<ConnectionSocketFactory> socketFactoryRegistry) {
+    PoolingHttpClientConnectionManager connectionManager = socketFactoryRegistry == null ?
+      new PoolingHttpClientConnectionManager() :
+      new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+    connectionManager.setMaxTotal(MAX_CONNECTIONS);
+    connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+    return connectionManager;
+  }
+
+  private static PoolingHttpClientConnectionManager pooled(PoolingHttpClientConnectionManager connectionManager) {
+    connectionManager.closeExpired();
+    connectionManager.closeIdle(MAX_IDLE_TIME);
+    return connectionManager;
+  }
+
   static class MemorizingRedirectStrategy extends DefaultRedirectStrategy {
     @Nullable
     private String lastRedirectUrl;
@@ -199,10 +327,15 @@ public class DownloadFileWithHttpRequest {
    * as described here: <a href="https://literatejava.com/networks/ignore-ssl-certificate-errors-apache-httpclient-4-4/">...</a>
    */
   protected CloseableHttpClient createTrustingHttpClient(RedirectStrategy redirectStrategy) throws IOException {
-    try {
-      HttpClientBuilder builder = HttpClientBuilder.create();
-      builder.setRedirectStrategy(redirectStrategy);
+    return HttpClientBuilder.create()
+      .setRedirectStrategy(redirectStrategy)
+      .setConnectionManager(pooled(trustingConnectionManager.get()))
+      .setConnectionManagerShared(true)
+      .build();
+  }
 
+  private PoolingHttpClientConnectionManager createTrustingConnectionManager() {
+    try {
       SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, new TrustAllStrategy()).build();
 
       HostnameVerifier hostnameVerifier = NoopHostnameVerifier.INSTANCE;
@@ -213,12 +346,10 @@ public class DownloadFileWithHttpRequest {
         .register("https", sslSocketFactory)
         .build();
 
-      PoolingHttpClientConnectionManager connMgr = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-      builder.setConnectionManager(connMgr);
-      return builder.build();
+      return createConnectionManager(socketFactoryRegistry);
     }
     catch (GeneralSecurityException e) {
-      throw new IOException(e);
+      throw new IllegalStateException("Failed to create SSL context", e);
     }
   }
 
@@ -2,6 +2,7 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.files.DownloadAction;
 import com.codeborne.selenide.files.FileFilter;
 import com.codeborne.selenide.proxy.FileDownloadFilter;
@@ -53,12 +54,12 @@ public class DownloadFileWithProxyServer {
     filter.activate();
     try {
       long pollingInterval = Math.max(config.pollingInterval(), 50);
-      waitForPreviousDownloadsCompletion(filter, timeout, pollingInterval);
+      waitForPreviousDownloadsCompletion(filter, timeout, pollingInterval, config.pollingStrategy());
 
       filter.reset();
       action.perform(driver, clickable);
 
-      waitForNewDownloads(filter, fileFilter, timeout, pollingInterval);
+      waitForNewDownloads(filter, fileFilter, timeout, pollingInterval, config.pollingStrategy());
 
       if (log.isInfoEnabled()) {
         log.info("Downloaded {}", filter.downloads().filesAsString());
@@ -71,12 +72,14 @@ public class DownloadFileWithProxyServer {
     }
   }
 
-  private void waitForNewDownloads(FileDownloadFilter filter, FileFilter fileFilter, long timeout, long pollingInterval) {
-    waiter.wait(timeout, pollingInterval, () -> !filter.downloads().files(fileFilter).isEmpty());
+  private void waitForNewDownloads(FileDownloadFilter filter, FileFilter fileFilter,
+                                   long timeout, long pollingInterval, PollingStrategy pollingStrategy) {
+    waiter.wait(timeout, pollingInterval, pollingStrategy, () -> !filter.downloads().files(fileFilter).isEmpty());
   }
 
-  private void waitForPreviousDownloadsCompletion(FileDownloadFilter filter, long timeout, long pollingInterval) {
-    waiter.wait(timeout, pollingInterval, new PreviousDownloadsCompleted(filter));
+  private void waitForPreviousDownloadsCompletion(FileDownloadFilter filter,
+                                                  long timeout, long pollingInterval, PollingStrategy pollingStrategy) {
+    waiter.wait(timeout, pollingInterval, pollingStrategy, new PreviousDownloadsCompleted(filter));
   }
 
   private static class PreviousDownloadsCompleted implements Supplier<Boolean> {
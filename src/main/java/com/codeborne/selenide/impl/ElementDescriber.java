@@ -5,7 +5,9 @@ import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static java.lang.System.lineSeparator;
 
@@ -34,13 +36,27 @@ public interface ElementDescriber {
 
     StringBuilder sb = new StringBuilder(256);
     sb.append("[").append(lineSeparator()).append("\t");
-    for (WebElement element : elements) {
+    for (String description : describeEach(driver, new ArrayList<>(elements))) {
       if (sb.length() > 4) {
         sb.append(",").append(lineSeparator()).append("\t");
       }
-      sb.append(fully(driver, element));
+      sb.append(description);
     }
     sb.append(lineSeparator()).append("]");
     return sb.toString();
   }
+
+  /**
+   * Describe every element of the list.
+   * Implementations can override it to describe all the elements at once.
+   *
+   * @return descriptions in the same order as given elements
+   */
+  default List<String> describeEach(Driver driver, List<WebElement> elements) {
+    List<String> descriptions = new ArrayList<>(elements.size());
+    for (WebElement element : elements) {
+      descriptions.add(fully(driver, element));
+    }
+    return descriptions;
+  }
 }
@@ -108,6 +108,19 @@ public class ElementFinder extends WebElementSource {
     return driver;
   }
 
+  @Nullable
+  WebElementSource parent() {
+    return parent;
+  }
+
+  By criteria() {
+    return criteria;
+  }
+
+  int index() {
+    return index;
+  }
+
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
     return elementSelector.findElement(driver, parent, criteria, index);
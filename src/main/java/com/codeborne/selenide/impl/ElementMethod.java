@@ -0,0 +1,122 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Everything {@link SelenideElementProxy} needs to know about a called method.
+ * <p>
+ * It's resolved only once per method (instead of checking method name in sets on every call).
+ * </p>
+ */
+final class ElementMethod {
+  private static final Set<String> methodsToSkipLogging = Set.of(
+    "as",
+    "getAlias",
+    "toWebElement",
+    "toString",
+    "getSearchCriteria",
+    "$",
+    "$x",
+    "find",
+    "$$",
+    "$$x",
+    "findAll",
+    "parent",
+    "sibling",
+    "preceding",
+    "lastChild",
+    "closest",
+    "ancestor",
+    "getSelectedOption"
+  );
+
+  private static final Set<String> methodsForSoftAssertion = Set.of(
+    "should",
+    "shouldBe",
+    "shouldHave",
+    "shouldNot",
+    "shouldNotHave",
+    "shouldNotBe"
+  );
+
+  private static final Object[] NO_ARGS = new Object[0];
+  private static final Map<Method, ElementMethod> cache = new ConcurrentHashMap<>(256);
+
+  static ElementMethod of(Method method) {
+    ElementMethod elementMethod = cache.get(method);
+    return elementMethod != null ? elementMethod : cache.computeIfAbsent(method, ElementMethod::new);
+  }
+
+  final String name;
+  final boolean selenideElementMethod;
+  final boolean skipLogging;
+  final boolean softAssertion;
+  private final Class<?> declaringClass;
+  private final int parameterCount;
+  @Nullable
+  private final MethodHandle webElementMethod;
+
+  private ElementMethod(Method method) {
+    name = method.getName();
+    selenideElementMethod = SelenideElement.class.isAssignableFrom(method.getDeclaringClass());
+    skipLogging = methodsToSkipLogging.contains(name);
+    softAssertion = methodsForSoftAssertion.contains(name);
+    declaringClass = method.getDeclaringClass();
+    parameterCount = method.getParameterCount();
+    webElementMethod = selenideElementMethod ? null : methodHandle(method);
+  }
+
+  @Nullable
+  private static MethodHandle methodHandle(Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method)
+        .asSpreader(Object[].class, method.getParameterCount())
+        .asType(methodType(Object.class, Object.class, Object[].class));
+    }
+    catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Call a method of WebElement (not overridden by Selenide).
+   * Any exception thrown by the method is wrapped into {@link InvocationTargetException} - just like in {@link Method#invoke}.
+   *
+   * @throws IllegalArgumentException if the target or the number of arguments doesn't match the method
+   *                                  (these are not exceptions of the method itself, so they are not wrapped)
+   */
+  @Nullable
+  Object invoke(Method method, Object target, Object @Nullable [] args) throws ReflectiveOperationException {
+    if (webElementMethod == null) {
+      return method.invoke(target, args);
+    }
+
+    Object[] arguments = args == null ? NO_ARGS : args;
+    if (!declaringClass.isInstance(target)) {
+      throw new IllegalArgumentException(String.format("Cannot call %s.%s on %s", declaringClass.getName(), name,
+        target == null ? null : target.getClass().getName()));
+    }
+    if (arguments.length != parameterCount) {
+      throw new IllegalArgumentException(String.format("Method %s.%s expects %s arguments, but received: %s",
+        declaringClass.getName(), name, parameterCount, arguments.length));
+    }
+
+    try {
+      return (Object) webElementMethod.invokeExact(target, arguments);
+    }
+    catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+}
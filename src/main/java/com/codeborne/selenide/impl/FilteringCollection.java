@@ -4,6 +4,7 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebElementCondition;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
@@ -22,20 +23,44 @@ public class FilteringCollection implements CollectionSource {
 
   @Override
   public List<WebElement> getElements() {
-    return originalCollection.getElements().stream()
+    List<WebElement> elements = originalCollection.getElements();
+    List<Boolean> matches = BatchConditionCheck.check(driver(), elements, filter);
+    if (matches != null) {
+      return filter(elements, matches);
+    }
+    return elements.stream()
       .filter(webElement -> filter.check(originalCollection.driver(), webElement).verdict() == ACCEPT)
       .collect(toList());
   }
 
   @Override
   public WebElement getElement(int index) {
-    return originalCollection.getElements().stream()
+    List<WebElement> elements = originalCollection.getElements();
+    List<Boolean> matches = BatchConditionCheck.check(driver(), elements, filter);
+    if (matches != null) {
+      List<WebElement> filtered = filter(elements, matches);
+      if (index >= filtered.size()) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      return filtered.get(index);
+    }
+    return elements.stream()
       .filter(webElement -> filter.check(originalCollection.driver(), webElement).verdict() == ACCEPT)
       .skip(index)
       .findFirst()
       .orElseThrow(() -> new IndexOutOfBoundsException("Index: " + index));
   }
 
+  private static List<WebElement> filter(List<WebElement> elements, List<Boolean> matches) {
+    List<WebElement> result = new ArrayList<>(elements.size());
+    for (int i = 0; i < elements.size(); i++) {
+      if (matches.get(i)) {
+        result.add(elements.get(i));
+      }
+    }
+    return result;
+  }
+
   @Override
   public String getSearchCriteria() {
     return originalCollection.description() + ".filter(" + filter + ')';
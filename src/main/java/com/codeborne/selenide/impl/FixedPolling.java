@@ -0,0 +1,20 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+
+/**
+ * Sleep the same polling interval between all checks
+ */
+public class FixedPolling implements PollingStrategy {
+  public static final FixedPolling INSTANCE = new FixedPolling();
+
+  @Override
+  public long delay(int attempt, long pollingInterval) {
+    return pollingInterval;
+  }
+
+  @Override
+  public String toString() {
+    return "fixed";
+  }
+}
@@ -20,10 +20,20 @@ import static java.util.regex.Pattern.DOTALL;
 
 public class JavaScript {
   private static final Pattern RE = Pattern.compile("import '(.+?\\.js)'", DOTALL);
+
+  /**
+   * Scripts bigger than this are installed into the page once and then called by key (see {@link PinnedScript}).
+   * Smaller scripts are cheaper to send with every call than to re-install after every page reload.
+   */
+  static final int PIN_THRESHOLD = 4096;
+
+  private final String jsFileName;
   private final FileContent jsSource;
   private final Lazy<String> content = lazyEvaluated(() -> readContent());
+  private final Lazy<PinnedScript> pinned = lazyEvaluated(() -> new PinnedScript(jsFileName, content()));
 
   public JavaScript(String jsFileName) {
+    this.jsFileName = jsFileName;
     jsSource = new FileContent(jsFileName);
   }
 
@@ -47,7 +57,10 @@ public class JavaScript {
   @CanIgnoreReturnValue
   @SuppressWarnings("unchecked")
   public <T> T execute(SearchContext context, @Nullable Object... arguments) {
-    return (T) jsExecutor(context).executeScript("return " + content(), arguments);
+    JavascriptExecutor executor = jsExecutor(context);
+    return content().length() > PIN_THRESHOLD ?
+      (T) pinned.get().execute(executor, arguments) :
+      (T) executor.executeScript("return " + content(), arguments);
   }
 
   @Nullable
@@ -56,6 +69,18 @@ public class JavaScript {
     return execute(driver.getWebDriver(), arguments);
   }
 
+  /**
+   * Executes asynchronous script: the script gets a callback as the last argument and must call it to return a result.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T executeAsync(Driver driver, @Nullable Object... arguments) {
+    JavascriptExecutor executor = jsExecutor(driver.getWebDriver());
+    return content().length() > PIN_THRESHOLD ?
+      (T) pinned.get().executeAsync(executor, arguments) :
+      (T) executor.executeAsyncScript(content(), arguments);
+  }
+
   @CanIgnoreReturnValue
   @SuppressWarnings("unchecked")
   public <T> T executeOrFail(Driver driver, Object... arguments) {
@@ -0,0 +1,91 @@
+package com.codeborne.selenide.impl;
+
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.JavascriptExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * A big script which is installed into the page only once (under {@code window.__selenide})
+ * and then called by its key instead of sending the whole script text with every call.
+ *
+ * <p>
+ *   Navigation clears the page, so the script is transparently re-installed when needed.
+ *   If the page doesn't allow installing the script, the whole script is sent as usual.
+ * </p>
+ */
+class PinnedScript {
+  private static final Logger log = LoggerFactory.getLogger(PinnedScript.class);
+  private static final String NOT_INSTALLED = "selenide:script-not-installed";
+
+  private final String plainScript;
+  private final String callScript;
+  private final String installScript;
+  private final String asyncCallScript;
+  private final String asyncInstallScript;
+  private final Set<JavascriptExecutor> unsupportedExecutors = newSetFromMap(synchronizedMap(new WeakHashMap<>()));
+
+  PinnedScript(String name, String content) {
+    String key = name + '@' + Integer.toHexString(content.hashCode());
+    String function = "window.__selenide['" + key + "']";
+    String install = "try {\n" +
+      "  window.__selenide = window.__selenide || {};\n" +
+      "  " + function + " = function () {\n" +
+      "return " + content + "\n" +
+      "  };\n" +
+      "} catch (e) {}\n";
+    this.plainScript = "return " + content;
+    this.callScript = "return window.__selenide && " + function + " ? " +
+      function + ".apply(null, arguments) : '" + NOT_INSTALLED + "';";
+    this.installScript = install + callScript;
+    this.asyncCallScript = "if (window.__selenide && " + function + ") " +
+      function + ".apply(null, arguments); else arguments[arguments.length - 1]('" + NOT_INSTALLED + "');";
+    this.asyncInstallScript = install + asyncCallScript;
+  }
+
+  @Nullable
+  Object execute(JavascriptExecutor executor, @Nullable Object... arguments) {
+    return execute(executor, executor::executeScript, callScript, installScript, arguments);
+  }
+
+  /**
+   * Same as {@link #execute}, but for asynchronous script (which gets a callback as the last argument)
+   */
+  @Nullable
+  Object executeAsync(JavascriptExecutor executor, @Nullable Object... arguments) {
+    return execute(executor, executor::executeAsyncScript, asyncCallScript, asyncInstallScript, arguments);
+  }
+
+  @Nullable
+  private Object execute(JavascriptExecutor executor, ScriptRunner runner, String callScript, String installScript,
+                         @Nullable Object... arguments) {
+    if (unsupportedExecutors.contains(executor)) {
+      return runner.run(plainScript, arguments);
+    }
+
+    Object result = runner.run(callScript, arguments);
+    if (!NOT_INSTALLED.equals(result)) {
+      return result;
+    }
+
+    result = runner.run(installScript, arguments);
+    if (!NOT_INSTALLED.equals(result)) {
+      return result;
+    }
+
+    log.debug("Cannot install script into the page, will send the whole script with every call: {}", callScript);
+    unsupportedExecutors.add(executor);
+    return runner.run(plainScript, arguments);
+  }
+
+  private interface ScriptRunner {
+    @Nullable
+    Object run(String script, @Nullable Object... arguments);
+  }
+}
@@ -24,12 +24,23 @@ public class Plugins {
   private static final Map<Class<?>, Object> cache = new ConcurrentHashMap<>();
 
   @SafeVarargs
-  public static synchronized <T> T inject(T... reified) {
+  public static <T> T inject(T... reified) {
     return inject(classOf(reified));
   }
 
+  /**
+   * Plugins are injected on hot paths (element finders, every element command etc.),
+   * so reading an already loaded plugin doesn't take any lock.
+   * Only loading a new plugin is synchronized (it may recursively inject other plugins).
+   */
   @SuppressWarnings("unchecked")
-  public static synchronized <T> T inject(Class<T> klass) {
+  public static <T> T inject(Class<T> klass) {
+    T plugin = (T) cache.get(klass);
+    return plugin != null ? plugin : load(klass);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static synchronized <T> T load(Class<T> klass) {
     T plugin = (T) cache.get(klass);
     if (plugin == null) {
       plugin = loadPlugin(klass);
@@ -26,24 +26,23 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
 import static com.codeborne.selenide.impl.Plugins.inject;
 import static com.codeborne.selenide.impl.Screenshot.none;
 import static java.io.File.separatorChar;
 import static java.lang.ThreadLocal.withInitial;
-import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
-import static java.util.Objects.requireNonNullElse;
 import static java.util.Objects.requireNonNullElseGet;
+import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.stream.Collectors.joining;
 import static org.openqa.selenium.OutputType.BYTES;
 import static org.openqa.selenium.OutputType.FILE;
@@ -52,23 +51,30 @@ public class ScreenShotLaboratory {
   private static final Logger log = LoggerFactory.getLogger(ScreenShotLaboratory.class);
 
   private static final Pattern REGEX_PLUS = Pattern.compile("\\+");
+  private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
 
   private final Photographer photographer;
   private final PageSourceExtractor extractor;
   private final AttachmentHandler attachmentHandler;
   private final Clock clock;
-  protected final List<Screenshot> allScreenshots = new ArrayList<>();
+  private final ArtifactWriter artifactWriter;
+  protected final ScreenshotHistory history;
   protected AtomicLong screenshotCounter = new AtomicLong();
 
   protected final ThreadLocal<String> currentContext = withInitial(() -> "");
-  protected final ThreadLocal<@Nullable List<Screenshot>> currentContextScreenshots = new ThreadLocal<>();
-  protected final ThreadLocal<List<Screenshot>> threadScreenshots = withInitial(ArrayList::new);
 
   private ScreenShotLaboratory() {
     this(inject(), inject(), inject(), new Clock());
   }
 
   ScreenShotLaboratory(Photographer photographer, PageSourceExtractor extractor, AttachmentHandler attachmentHandler, Clock clock) {
+    this(photographer, extractor, attachmentHandler, clock, new ScreenshotHistory(), inject());
+  }
+
+  ScreenShotLaboratory(Photographer photographer, PageSourceExtractor extractor, AttachmentHandler attachmentHandler, Clock clock,
+                       ScreenshotHistory history, ArtifactWriter artifactWriter) {
+    this.history = history;
+    this.artifactWriter = artifactWriter;
     this.photographer = photographer;
     this.extractor = extractor;
     this.attachmentHandler = attachmentHandler;
@@ -120,7 +126,8 @@ public class ScreenShotLaboratory {
   private Screenshot takeScreenShot(Config config, Driver driver, String fileName, boolean saveScreenshot, boolean savePageSource) {
     File source = savePageSource ? savePageSourceToFile(config, fileName, driver) : null;
     File image = saveScreenshot ? savePageImageToFile(config, fileName, driver) : null;
-    Screenshot screenshot = new Screenshot(image, toUrl(config, image), toUrl(config, source));
+    CompletableFuture<?> saved = allOf(artifactWriter.completion(image), artifactWriter.completion(source));
+    Screenshot screenshot = new Screenshot(image, toUrl(config, image), toUrl(config, source), saved);
     addToHistory(screenshot);
     return screenshot;
   }
@@ -225,27 +232,12 @@ public class ScreenShotLaboratory {
   }
 
   protected void addToHistory(Screenshot screenshot) {
-    List<Screenshot> contextScreenshots = currentContextScreenshots.get();
-    if (contextScreenshots != null) {
-      contextScreenshots.add(screenshot);
-    }
-    synchronized (allScreenshots) {
-      allScreenshots.add(screenshot);
-    }
-    threadScreenshots.get().add(screenshot);
+    history.add(screenshot);
   }
 
   @CanIgnoreReturnValue
   private File addToImageHistory(Config config, File imageFile) {
-    Screenshot screenshot = new Screenshot(imageFile, toUrl(config, imageFile), null);
-    List<Screenshot> contextScreenshots = currentContextScreenshots.get();
-    if (contextScreenshots != null) {
-      contextScreenshots.add(screenshot);
-    }
-    synchronized (allScreenshots) {
-      allScreenshots.add(screenshot);
-    }
-    threadScreenshots.get().add(screenshot);
+    addToHistory(new Screenshot(imageFile, toUrl(config, imageFile), null));
     return imageFile;
   }
 
@@ -258,8 +250,13 @@ public class ScreenShotLaboratory {
         return null;
       }
       File imageFile = new File(config.reportsFolder(), fileName + ".png").getAbsoluteFile();
-      writeToFileSafely(srcFile.get(), imageFile);
-      attachmentHandler.attach(imageFile);
+      byte[] image = srcFile.get();
+      if (config.asyncScreenshots()) {
+        artifactWriter.submit(imageFile, () -> saveImage(image, imageFile));
+      }
+      else {
+        saveImage(image, imageFile);
+      }
       return imageFile;
     }
     catch (WebDriverException e) {
@@ -268,6 +265,11 @@ public class ScreenShotLaboratory {
     }
   }
 
+  private void saveImage(byte[] image, File imageFile) {
+    writeToFileSafely(image, imageFile);
+    attachmentHandler.attach(imageFile);
+  }
+
   private static void writeToFileSafely(byte[] srcFile, File imageFile) {
     try {
       FileUtils.writeByteArrayToFile(imageFile, srcFile);
@@ -288,47 +290,60 @@ public class ScreenShotLaboratory {
 
   public void startContext(String context) {
     currentContext.set(context);
-    currentContextScreenshots.set(new ArrayList<>());
+    history.startContext();
   }
 
+  /**
+   * Finish the context and wait until all its screenshots have been saved to files
+   * (see {@link Config#asyncScreenshots()}).
+   */
   @CanIgnoreReturnValue
   public List<Screenshot> finishContext() {
-    List<Screenshot> result = currentContextScreenshots.get();
-    currentContext.set("");
-    currentContextScreenshots.remove();
+    List<Screenshot> result = history.finishContext();
+    currentContext.remove();
+    flush();
     return requireNonNull(result, "Current context is not started");
   }
 
+  /**
+   * Wait until all screenshots and page sources taken by the current thread have been saved to files.
+   * Needed only if screenshots are saved in background (see {@link Config#asyncScreenshots()}).
+   *
+   * @return false if not all files have been saved in 30 seconds
+   */
+  @CanIgnoreReturnValue
+  public boolean flush() {
+    return artifactWriter.flush(FLUSH_TIMEOUT);
+  }
+
+  /**
+   * @return last screenshots taken by all threads (at most {@code selenide.screenshots.history.size})
+   */
   public List<File> getScreenshots() {
-    synchronized (allScreenshots) {
-      return allScreenshots.stream()
-        .map(screenshot -> screenshot.getImageFile())
-        .filter(image -> image != null)
-        .toList();
-    }
+    return history.all().stream()
+      .map(screenshot -> screenshot.getImageFile())
+      .filter(image -> image != null)
+      .toList();
   }
 
   public List<@Nullable File> getThreadScreenshots() {
-    List<Screenshot> screenshots = threadScreenshots.get();
-    return streamOf(screenshots)
+    return history.thread().stream()
       .map(screenshot -> screenshot.getImageFile())
       .toList();
   }
 
   public List<Screenshot> threadScreenshots() {
-    return threadScreenshots.get();
+    return history.thread();
   }
 
   public List<@Nullable File> getContextScreenshots() {
-    List<Screenshot> screenshots = currentContextScreenshots.get();
-    return streamOf(screenshots)
+    return history.context().stream()
       .map(screenshot -> screenshot.getImageFile())
       .toList();
   }
 
   public List<Screenshot> contextScreenshots() {
-    List<Screenshot> screenshots = currentContextScreenshots.get();
-    return requireNonNullElse(screenshots, emptyList());
+    return history.context();
   }
 
   @Nullable
@@ -339,31 +354,23 @@ public class ScreenShotLaboratory {
 
   @Nullable
   public Screenshot lastScreenshot() {
-    synchronized (allScreenshots) {
-      return allScreenshots.isEmpty() ? null : allScreenshots.get(allScreenshots.size() - 1);
-    }
+    return history.last();
   }
 
   public Optional<File> getLastThreadScreenshot() {
-    return lastOf(getThreadScreenshots());
+    return lastThreadScreenshot().map(screenshot -> screenshot.getImageFile());
   }
 
   public Optional<Screenshot> lastThreadScreenshot() {
-    return lastOf(threadScreenshots());
+    return history.lastOfThread();
   }
 
   public Optional<File> getLastContextScreenshot() {
-    return lastOf(getContextScreenshots());
+    return lastContextScreenshot().map(screenshot -> screenshot.getImageFile());
   }
 
   public Optional<Screenshot> lastContextScreenshot() {
-    return lastOf(contextScreenshots());
-  }
-
-  private static <T> Optional<T> lastOf(@Nullable List<T> screenshots) {
-    return screenshots == null || screenshots.isEmpty()
-      ? Optional.empty()
-      : Optional.of(screenshots.get(screenshots.size() - 1));
+    return history.lastOfContext();
   }
 
   @CanIgnoreReturnValue
@@ -450,8 +457,4 @@ public class ScreenShotLaboratory {
     }
     return lambda.apply(config);
   }
-
-  private static <T> Stream<T> streamOf(@Nullable List<T> list) {
-    return list == null ? Stream.empty() : list.stream();
-  }
 }
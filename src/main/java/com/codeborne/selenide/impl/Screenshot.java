@@ -3,6 +3,9 @@ package com.codeborne.selenide.impl;
 import org.jspecify.annotations.Nullable;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public class Screenshot {
   @Nullable
@@ -11,11 +14,25 @@ public class Screenshot {
   private final String image;
   @Nullable
   private final String source;
+  private final CompletableFuture<?> saved;
 
   public Screenshot(@Nullable File imageFile, @Nullable String imageUrl, @Nullable String source) {
+    this(imageFile, imageUrl, source, completedFuture(null));
+  }
+
+  public Screenshot(@Nullable File imageFile, @Nullable String imageUrl, @Nullable String source, CompletableFuture<?> saved) {
     this.imageFile = imageFile;
     this.image = imageUrl;
     this.source = source;
+    this.saved = saved;
+  }
+
+  /**
+   * @return future which gets completed when both screenshot and page source have been saved to files
+   * (they can be saved in background, see {@link com.codeborne.selenide.Config#asyncScreenshots()}).
+   */
+  public CompletableFuture<?> saved() {
+    return saved;
   }
 
   @Nullable
@@ -0,0 +1,131 @@
+package com.codeborne.selenide.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.ThreadLocal.withInitial;
+
+/**
+ * History of taken screenshots: global, per thread and per context (e.g. per test).
+ *
+ * <p>
+ *   Every history keeps only the last {@code capacity} screenshots - older ones get evicted.
+ *   Thus long test runs with thousands of screenshots don't consume memory infinitely.
+ * </p>
+ *
+ * <p>
+ *   Adding a screenshot doesn't block other threads: global history is a lock-free queue,
+ *   and per-thread histories are not shared between threads at all.
+ * </p>
+ */
+public class ScreenshotHistory {
+  static final int DEFAULT_CAPACITY = Integer.parseInt(System.getProperty("selenide.screenshots.history.size", "1000"));
+
+  private final int capacity;
+  private final ConcurrentLinkedDeque<Screenshot> allScreenshots = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger allScreenshotsCount = new AtomicInteger();
+  private final AtomicReference<@Nullable Screenshot> lastScreenshot = new AtomicReference<>();
+  private final ThreadLocal<Bounded> threadScreenshots;
+  private final ThreadLocal<@Nullable Bounded> contextScreenshots = new ThreadLocal<>();
+
+  public ScreenshotHistory() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ScreenshotHistory(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Screenshots history capacity must be positive, but was: " + capacity);
+    }
+    this.capacity = capacity;
+    this.threadScreenshots = withInitial(() -> new Bounded(capacity));
+  }
+
+  public void add(Screenshot screenshot) {
+    allScreenshots.addLast(screenshot);
+    lastScreenshot.set(screenshot);
+    if (allScreenshotsCount.incrementAndGet() > capacity && allScreenshots.pollFirst() != null) {
+      allScreenshotsCount.decrementAndGet();
+    }
+
+    threadScreenshots.get().add(screenshot);
+    Bounded context = contextScreenshots.get();
+    if (context != null) {
+      context.add(screenshot);
+    }
+  }
+
+  public void startContext() {
+    contextScreenshots.set(new Bounded(capacity));
+  }
+
+  /**
+   * @return screenshots taken during the context, or null if the context was not started
+   */
+  @Nullable
+  public List<Screenshot> finishContext() {
+    Bounded context = contextScreenshots.get();
+    contextScreenshots.remove();
+    return context == null ? null : context.toList();
+  }
+
+  public List<Screenshot> all() {
+    return List.copyOf(allScreenshots);
+  }
+
+  @Nullable
+  public Screenshot last() {
+    return lastScreenshot.get();
+  }
+
+  public List<Screenshot> thread() {
+    return threadScreenshots.get().toList();
+  }
+
+  public Optional<Screenshot> lastOfThread() {
+    return threadScreenshots.get().last();
+  }
+
+  public List<Screenshot> context() {
+    Bounded context = contextScreenshots.get();
+    return context == null ? List.of() : context.toList();
+  }
+
+  public Optional<Screenshot> lastOfContext() {
+    Bounded context = contextScreenshots.get();
+    return context == null ? Optional.empty() : context.last();
+  }
+
+  /**
+   * Ring buffer: when it's full, adding a new screenshot evicts the oldest one.
+   * Not thread-safe (used only by a single thread).
+   */
+  private static final class Bounded {
+    private final int capacity;
+    private final ArrayDeque<Screenshot> screenshots = new ArrayDeque<>();
+
+    private Bounded(int capacity) {
+      this.capacity = capacity;
+    }
+
+    private void add(Screenshot screenshot) {
+      if (screenshots.size() == capacity) {
+        screenshots.pollFirst();
+      }
+      screenshots.addLast(screenshot);
+    }
+
+    private Optional<Screenshot> last() {
+      return Optional.ofNullable(screenshots.peekLast());
+    }
+
+    private List<Screenshot> toList() {
+      return List.copyOf(screenshots);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.reverse;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A chain of nested CSS/XPath selectors (like {@code $("#a").$(".b").$$("li").get(2)})
+ * which is resolved in browser by a single JavaScript call instead of one WebDriver call per selector.
+ *
+ * @see com.codeborne.selenide.SelectorMode#JS
+ */
+class SelectorChain {
+  private static final JavaScript js = new JavaScript("find-by-selector-chain.js");
+  private static final int ALL = -1;
+
+  /**
+   * The nearest ancestor which cannot be compiled into the chain (or null if the chain starts from document)
+   */
+  @Nullable
+  private final WebElementSource root;
+  private final List<Step> steps;
+
+  private SelectorChain(@Nullable WebElementSource root, List<Step> steps) {
+    this.root = root;
+    this.steps = steps;
+  }
+
+  static Optional<SelectorChain> compile(@Nullable WebElementSource parent, By selector) {
+    return compile(parent, selector, ALL);
+  }
+
+  static Optional<SelectorChain> compile(@Nullable WebElementSource parent, By selector, int index) {
+    return build(parent, selector, index)
+      .filter(chain -> chain.steps.size() > 1 || chain.steps.get(0).index > 0);
+  }
+
+  /**
+   * Unlike {@link #compile(WebElementSource, By)}, the chain may consist of a single selector:
+   * it's still useful for fetching only a part of elements (see {@link #findElements(Driver, int, int)}).
+   */
+  static Optional<SelectorChain> compileSlice(@Nullable WebElementSource parent, By selector) {
+    return build(parent, selector, ALL);
+  }
+
+  /**
+   * Locator of the element which can be re-evaluated in browser (see {@link BrowserSideWait}).
+   */
+  static Optional<SelectorChain> locatorOf(WebElementSource element) {
+    return element instanceof ElementFinder finder ?
+      build(finder.parent(), finder.criteria(), finder.index()) :
+      Optional.empty();
+  }
+
+  private static Optional<SelectorChain> build(@Nullable WebElementSource parent, By selector, int index) {
+    List<Step> steps = new ArrayList<>();
+    Optional<Step> last = Step.of(selector, index);
+    if (last.isEmpty()) return Optional.empty();
+    steps.add(last.get());
+
+    @Nullable WebElementSource ancestor = parent;
+    while (ancestor instanceof ElementFinder finder && !finder.isShadowRoot() && !finder.hasCachedSearchContext()) {
+      Optional<Step> step = Step.of(finder.criteria(), finder.index());
+      if (step.isEmpty()) break;
+      steps.add(step.get());
+      ancestor = finder.parent();
+    }
+    reverse(steps);
+
+    if (ancestor != null && ancestor.isShadowRoot()) return Optional.empty();
+    if (startsFromRoot(ancestor, steps)) return Optional.empty();
+    return Optional.of(new SelectorChain(ancestor, steps));
+  }
+
+  /**
+   * Nested XPath starting from "/" is an error - let Selenide report it in a usual way.
+   */
+  private static boolean startsFromRoot(@Nullable WebElementSource root, List<Step> steps) {
+    int firstNestedStep = root == null ? 1 : 0;
+    return steps.subList(firstNestedStep, steps.size()).stream()
+      .anyMatch(step -> "xpath".equals(step.using) && step.value.startsWith("/"));
+  }
+
+  WebElement findElement(Driver driver) {
+    return (WebElement) resolve(driver, 0, ALL);
+  }
+
+  @SuppressWarnings("unchecked")
+  List<WebElement> findElements(Driver driver) {
+    return (List<WebElement>) resolve(driver, 0, ALL);
+  }
+
+  /**
+   * @return up to {@code count} found elements starting from {@code fromIndex}
+   */
+  @SuppressWarnings("unchecked")
+  List<WebElement> findElements(Driver driver, int fromIndex, int count) {
+    return (List<WebElement>) resolve(driver, fromIndex, count);
+  }
+
+  private Object resolve(Driver driver, int fromIndex, int count) {
+    try {
+      return execute(driver, fromIndex, count);
+    }
+    catch (StaleElementReferenceException e) {
+      if (root == null || !root.resetSearchContext()) throw e;
+      return execute(driver, fromIndex, count);
+    }
+  }
+
+  private Object execute(Driver driver, int fromIndex, int count) {
+    @Nullable SearchContext context = rootContext();
+    List<Map<String, Object>> json = stepsJson();
+    @Nullable Object[] arguments = count == ALL ? new Object[]{context, json} : new Object[]{context, json, fromIndex, count};
+    Object result = requireNonNull(js.execute(driver.getWebDriver(), arguments));
+    if (result instanceof Number failedStep) {
+      throw new NoSuchElementException("Cannot locate an element using " + steps.get(failedStep.intValue()).selector);
+    }
+    return result;
+  }
+
+  @Nullable
+  SearchContext rootContext() {
+    return root == null ? null : root.getSearchContext();
+  }
+
+  List<Map<String, Object>> stepsJson() {
+    return steps.stream().map(Step::toJson).toList();
+  }
+
+  private record Step(By selector, String using, String value, int index) {
+    static Optional<Step> of(By selector, int index) {
+      if (!(selector instanceof By.Remotable remotable)) return Optional.empty();
+
+      By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+      String using = parameters.using();
+      if (!(parameters.value() instanceof String value)) return Optional.empty();
+
+      return switch (using) {
+        case "css selector", "tag name" -> Optional.of(new Step(selector, "css selector", value, index));
+        case "xpath" -> Optional.of(new Step(selector, "xpath", value, index));
+        default -> Optional.empty();
+      };
+    }
+
+    Map<String, Object> toJson() {
+      return Map.of("using", using, "value", value, "index", index);
+    }
+  }
+}
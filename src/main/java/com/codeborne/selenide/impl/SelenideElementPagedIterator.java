@@ -0,0 +1,58 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates a big collection page by page.
+ *
+ * <p>
+ *   Unlike {@link SelenideElementIterator}, it doesn't reload the whole collection on every step.
+ *   Instead, it loads elements in pages of {@code pageSize} elements (if possible, only the page is sent from browser).
+ *   Returned elements are bound to their page: if some element becomes stale, only its page is reloaded.
+ * </p>
+ */
+public class SelenideElementPagedIterator<T extends SelenideElement> implements Iterator<T> {
+  private final CollectionSource collection;
+  private final Class<T> clazz;
+  private final int pageSize;
+  private CollectionPage page;
+  private int index;
+
+  public SelenideElementPagedIterator(CollectionSource collection, Class<T> clazz, int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive, but was: " + pageSize);
+    }
+    this.collection = collection;
+    this.clazz = clazz;
+    this.pageSize = pageSize;
+    this.page = new CollectionPage(collection, 0, pageSize);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (index < page.fromIndex() + page.getElements().size()) {
+      return true;
+    }
+    if (page.isLastPage()) {
+      return false;
+    }
+    page = new CollectionPage(collection, index, pageSize);
+    return !page.getElements().isEmpty();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("Index: " + index);
+    }
+    return CollectionElement.wrap(clazz, page, index++);
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("Cannot remove elements from web page");
+  }
+}
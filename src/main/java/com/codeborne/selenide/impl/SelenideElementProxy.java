@@ -2,6 +2,7 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.commands.Commands;
@@ -9,9 +10,11 @@ import com.codeborne.selenide.ex.FileNotDownloadedError;
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.codeborne.selenide.metrics.SelenideMetrics;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.UnhandledAlertException;
 import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriverException;
@@ -20,44 +23,16 @@ import java.io.IOException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashSet;
 import java.util.Set;
 
 import static com.codeborne.selenide.AssertionMode.SOFT;
+import static com.codeborne.selenide.drivercommands.BrowserHealthChecker.markAlive;
+import static com.codeborne.selenide.impl.Plugins.inject;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
-import static java.util.Arrays.asList;
 
 class SelenideElementProxy<T extends SelenideElement> implements InvocationHandler {
-  private static final Set<String> methodsToSkipLogging = new HashSet<>(asList(
-    "as",
-    "getAlias",
-    "toWebElement",
-    "toString",
-    "getSearchCriteria",
-    "$",
-    "$x",
-    "find",
-    "$$",
-    "$$x",
-    "findAll",
-    "parent",
-    "sibling",
-    "preceding",
-    "lastChild",
-    "closest",
-    "ancestor",
-    "getSelectedOption"
-  ));
-
-  private static final Set<String> methodsForSoftAssertion = new HashSet<>(asList(
-    "should",
-    "shouldBe",
-    "shouldHave",
-    "shouldNot",
-    "shouldNotHave",
-    "shouldNotBe"
-  ));
+  private static final SelenideMetrics metrics = inject(SelenideMetrics.class);
 
   private final WebElementSource webElementSource;
   private final ExceptionWrapper exceptionWrapper = new ExceptionWrapper();
@@ -69,19 +44,21 @@ class SelenideElementProxy<T extends SelenideElement> implements InvocationHandl
   @Nullable
   @Override
   public Object invoke(Object proxy, Method method, Object @Nullable [] args) throws Throwable {
-    Arguments arguments = new Arguments(args);
-    if (methodsToSkipLogging.contains(method.getName()))
-      return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    ElementMethod elementMethod = ElementMethod.of(method);
+    if (elementMethod.skipLogging)
+      return Commands.getInstance().execute(proxy, webElementSource, elementMethod.name, args);
 
-    if (isMethodForSoftAssertion(method)) {
+    if (elementMethod.softAssertion) {
       validateAssertionMode(config());
     }
 
+    Arguments arguments = new Arguments(args);
     long timeoutMs = arguments.getTimeoutMs(config().timeout());
-    SelenideLog log = SelenideLogger.beginStep(webElementSource.description(), method.getName(), args);
+    SelenideLog log = SelenideLogger.beginStep(webElementSource::description, elementMethod.name, args);
     try {
       Object result = dispatchAndRetry(timeoutMs, config().pollingInterval(), proxy, method, args);
       SelenideLogger.commitStep(log, PASS);
+      markAlive(driver());
       return result;
     }
     catch (AssertionError error) {
@@ -101,16 +78,12 @@ class SelenideElementProxy<T extends SelenideElement> implements InvocationHandl
   }
 
   private Object continueOrBreak(Object proxy, Method method, Throwable wrappedError) throws Throwable {
-    if (config().assertionMode() == SOFT && isMethodForSoftAssertion(method))
+    if (config().assertionMode() == SOFT && ElementMethod.of(method).softAssertion)
       return proxy;
     else
       throw wrappedError;
   }
 
-  private boolean isMethodForSoftAssertion(Method method) {
-    return methodsForSoftAssertion.contains(method.getName());
-  }
-
   private Driver driver() {
     return webElementSource.driver();
   }
@@ -122,16 +95,17 @@ class SelenideElementProxy<T extends SelenideElement> implements InvocationHandl
   @Nullable
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
                                     Object proxy, Method method, Object @Nullable [] args) throws Throwable {
-    Stopwatch stopwatch = new Stopwatch(timeoutMs);
+    Stopwatch stopwatch = new Stopwatch(timeoutMs, pollingStrategy(args));
+    ElementMethod elementMethod = ElementMethod.of(method);
 
     Throwable lastError;
     do {
       try {
-        if (isSelenideElementMethod(method)) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+        if (elementMethod.selenideElementMethod) {
+          return Commands.getInstance().execute(proxy, webElementSource, elementMethod.name, args);
         }
 
-        return method.invoke(webElementSource.getWebElement(), args);
+        return elementMethod.invoke(method, webElementSource.getWebElement(), args);
       }
       catch (InvocationTargetException e) {
         lastError = e.getTargetException();
@@ -140,21 +114,35 @@ class SelenideElementProxy<T extends SelenideElement> implements InvocationHandl
         lastError = e;
       }
 
+      if (lastError instanceof StaleElementReferenceException) {
+        webElementSource.resetSearchContext();
+      }
+
       if (Cleanup.of.isInvalidSelectorError(lastError)) {
         throw Cleanup.of.wrapInvalidSelectorException(lastError);
       }
       else if (!shouldRetryAfterError(lastError)) {
         throw lastError;
       }
-      stopwatch.sleep(pollingIntervalMs);
+      metrics.retry(elementMethod.name);
+      if (!BrowserSideWait.waitFor(webElementSource, elementMethod.name, args, timeoutMs - stopwatch.getElapsedTimeMs())) {
+        stopwatch.sleep(pollingIntervalMs);
+      }
     }
     while (!stopwatch.isTimeoutReached());
 
     throw exceptionWrapper.wrap(lastError, webElementSource);
   }
 
+  /**
+   * Polling strategy given as an argument (e.g. {@code should(condition, timeout, pollingStrategy)}) or the default one
+   */
+  private PollingStrategy pollingStrategy(Object @Nullable [] args) {
+    return new Arguments(args).ofType(PollingStrategy.class).orElseGet(() -> config().pollingStrategy());
+  }
+
   static boolean isSelenideElementMethod(Method method) {
-    return SelenideElement.class.isAssignableFrom(method.getDeclaringClass());
+    return ElementMethod.of(method).selenideElementMethod;
   }
 
   private static final Set<Class<? extends Throwable>> TERMINAL_EXCEPTIONS = Set.of(
@@ -3,6 +3,8 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.CheckResult;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ObjectCondition;
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.ex.ConditionMetError;
 import com.codeborne.selenide.ex.ConditionNotMetError;
 import com.codeborne.selenide.ex.UIAssertionError;
@@ -17,16 +19,18 @@ import java.util.function.Supplier;
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
 import static com.codeborne.selenide.CheckResult.Verdict.REJECT;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
-import static java.lang.System.currentTimeMillis;
 
 public class Waiter {
   private static final Logger logger = LoggerFactory.getLogger(Waiter.class);
 
   public void wait(long timeout, long pollingInterval, Supplier<Boolean> condition) {
-    sleep(pollingInterval);
-    for (long start = currentTimeMillis();
-         !isTimeoutExceeded(timeout, start) && !condition.get(); ) {
-      sleep(pollingInterval);
+    wait(timeout, pollingInterval, PollingStrategy.fixed(), condition);
+  }
+
+  public void wait(long timeout, long pollingInterval, PollingStrategy pollingStrategy, Supplier<Boolean> condition) {
+    Stopwatch stopwatch = new Stopwatch(timeout, pollingStrategy);
+    while (!stopwatch.isTimeoutReached() && !condition.get()) {
+      stopwatch.sleep(pollingInterval);
     }
   }
 
@@ -39,10 +43,11 @@ public class Waiter {
   }
 
   private <T> void wait(Driver driver, T subject, ObjectCondition<T> condition, long timeout, long pollingInterval) {
-    SelenideLog log = SelenideLogger.beginStep(condition.describe(subject), condition.description());
+    SelenideLog log = SelenideLogger.beginStep(() -> condition.describe(subject), condition::description);
     CheckResult result = null;
     Exception error = null;
-    for (long start = currentTimeMillis(); !isTimeoutExceeded(timeout, start); ) {
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
+    while (!stopwatch.isTimeoutReached()) {
       try {
         result = condition.check(subject);
         if (result.verdict() == ACCEPT) {
@@ -54,7 +59,7 @@ public class Waiter {
         logger.info("Fail to check condition", e);
         error = e;
       }
-      sleep(pollingInterval);
+      stopwatch.sleep(pollingInterval);
     }
 
     Error failure = UIAssertionError.wrap(driver, new ConditionNotMetError(condition, subject, result, error), timeout);
@@ -71,10 +76,11 @@ public class Waiter {
   }
 
   private <T> void waitWhile(Driver driver, T subject, ObjectCondition<T> condition, long timeout, long pollingInterval) {
-    SelenideLog log = SelenideLogger.beginStep(subject.toString(), condition.negativeDescription());
+    SelenideLog log = SelenideLogger.beginStep(subject::toString, condition::negativeDescription);
     CheckResult result = null;
     Exception error = null;
-    for (long start = currentTimeMillis(); !isTimeoutExceeded(timeout, start); ) {
+    Stopwatch stopwatch = new Stopwatch(timeout, driver.config().pollingStrategy());
+    while (!stopwatch.isTimeoutReached()) {
       try {
         result = condition.check(subject);
         if (result.verdict() == REJECT) {
@@ -86,25 +92,11 @@ public class Waiter {
         logger.info("Fail to check condition", e);
         error = e;
       }
-      sleep(pollingInterval);
+      stopwatch.sleep(pollingInterval);
     }
 
     Error failure = UIAssertionError.wrap(driver, new ConditionMetError(condition, subject, result, error), timeout);
     SelenideLogger.commitStep(log, failure);
     throw failure;
   }
-
-  private boolean isTimeoutExceeded(long timeout, long start) {
-    return currentTimeMillis() - start > timeout;
-  }
-
-  private void sleep(long milliseconds) {
-    try {
-      Thread.sleep(milliseconds);
-    }
-    catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new RuntimeException(e);
-    }
-  }
 }
@@ -0,0 +1,281 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.BrowserDownloadsFolder;
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.files.DownloadedFile;
+import com.codeborne.selenide.files.FileFilter;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Locale.ROOT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.commons.io.FilenameUtils.getExtension;
+
+/**
+ * Downloads folder which is watched by file system events instead of re-listing all its files every polling interval.
+ *
+ * <p>
+ *   The waiting thread is woken up as soon as any file in the folder is created, modified or deleted.
+ *   The folder content is re-read only after such events.
+ * </p>
+ *
+ * <p>
+ *   If the folder cannot be watched (e.g. it's a remote folder, or the OS has no native watch service like macOS),
+ *   it falls back to polling: every call goes directly to the original folder.
+ * </p>
+ *
+ * <p>
+ *   NB! Not thread-safe: it's supposed to be used by a single thread during a single download.
+ * </p>
+ */
+final class WatchedDownloadsFolder implements DownloadsFolder, Closeable {
+  private static final Logger log = LoggerFactory.getLogger(WatchedDownloadsFolder.class);
+
+  private final DownloadsFolder folder;
+  @Nullable
+  private final WatchService watchService;
+  private final Set<String> fileNames = new HashSet<>();
+  private long lastChangeAt;
+  private boolean wokenUpByChange;
+  private long lastWakeUpAt;
+
+  @Nullable
+  private Map<String, Long> modificationTimes;
+  @Nullable
+  private List<DownloadedFile> newFiles;
+  private long newFilesSince;
+
+  private WatchedDownloadsFolder(DownloadsFolder folder, @Nullable WatchService watchService) {
+    this.folder = folder;
+    this.watchService = watchService;
+    if (watchService != null) {
+      rescan();
+      lastChangeAt = folder.lastModificationTime().orElse(0L);
+    }
+  }
+
+  static WatchedDownloadsFolder watch(DownloadsFolder folder) {
+    return new WatchedDownloadsFolder(folder, startWatching(folder));
+  }
+
+  @Nullable
+  private static WatchService startWatching(DownloadsFolder folder) {
+    if (!(folder instanceof BrowserDownloadsFolder localFolder)) {
+      return null;
+    }
+
+    Path path = localFolder.getFolder().toPath();
+    if (!hasNativeWatchService(path, System.getProperty("os.name", ""))) {
+      log.debug("File system of {} doesn't support watching, will poll the folder", path);
+      return null;
+    }
+
+    WatchService watchService = null;
+    try {
+      Files.createDirectories(path);
+      watchService = path.getFileSystem().newWatchService();
+      path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      return watchService;
+    }
+    catch (IOException | UnsupportedOperationException e) {
+      log.debug("Cannot watch folder {}, will poll it: {}", path, e.toString());
+      closeQuietly(watchService);
+      return null;
+    }
+  }
+
+  /**
+   * JDK has native watch services (notified by OS) only on Linux (inotify) and Windows.
+   * On other systems (e.g. macOS) the default file system returns {@code sun.nio.fs.PollingWatchService}
+   * which re-lists the folder only every 2-10 seconds - that's much slower than our own polling.
+   */
+  static boolean hasNativeWatchService(Path path, String osName) {
+    if (path.getFileSystem() != FileSystems.getDefault()) {
+      return false;
+    }
+    String os = osName.toLowerCase(ROOT);
+    return os.startsWith("linux") || os.startsWith("windows");
+  }
+
+  boolean isWatching() {
+    return watchService != null;
+  }
+
+  /**
+   * Wait until any file in the folder gets changed (but not longer than given timeout).
+   *
+   * <p>
+   *   An active download modifies the file continuously. To avoid re-reading the folder in a tight loop,
+   *   only the first change after a quiet period wakes up the caller immediately.
+   *   After that, the caller is woken up not more often than once per {@code timeoutMs}
+   *   (changes happened meanwhile are still collected).
+   * </p>
+   *
+   * @return false if nothing has changed during the timeout
+   * (in polling mode, always returns true after the timeout because we don't know)
+   */
+  boolean awaitChanges(long timeoutMs) {
+    try {
+      if (watchService == null) {
+        Thread.sleep(timeoutMs);
+        return true;
+      }
+
+      long start = nanoTime();
+      long deadline = start + MILLISECONDS.toNanos(timeoutMs);
+      long notBefore = wokenUpByChange ? Math.min(lastWakeUpAt + MILLISECONDS.toNanos(timeoutMs), deadline) : start;
+      boolean changed = false;
+      for (long now = start; now < deadline && !(changed && now >= notBefore); now = nanoTime()) {
+        WatchKey key = watchService.poll((changed ? notBefore : deadline) - now, NANOSECONDS);
+        for (; key != null; key = watchService.poll()) {
+          processEvents(key);
+          changed = true;
+        }
+      }
+      wokenUpByChange = changed;
+      lastWakeUpAt = nanoTime();
+      return changed;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void processEvents(WatchKey key) {
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        rescan();
+      }
+      else if (event.kind() == ENTRY_DELETE) {
+        fileNames.remove(event.context().toString());
+      }
+      else {
+        fileNames.add(event.context().toString());
+      }
+    }
+    key.reset();
+    lastChangeAt = currentTimeMillis();
+    modificationTimes = null;
+    newFiles = null;
+  }
+
+  private void rescan() {
+    fileNames.clear();
+    for (File file : folder.files()) {
+      fileNames.add(file.getName());
+    }
+  }
+
+  @Override
+  public List<File> files() {
+    return folder.files();
+  }
+
+  @Override
+  public List<DownloadedFile> filesNewerThan(long modifiedAfterTs) {
+    if (watchService == null) {
+      return folder.filesNewerThan(modifiedAfterTs);
+    }
+    if (newFiles == null || newFilesSince != modifiedAfterTs) {
+      newFiles = folder.filesNewerThan(modifiedAfterTs);
+      newFilesSince = modifiedAfterTs;
+    }
+    return newFiles;
+  }
+
+  @Override
+  public boolean hasFiles(Set<String> extensions, FileFilter excludingFilter) {
+    if (watchService == null) {
+      return folder.hasFiles(extensions, excludingFilter);
+    }
+    File directory = ((BrowserDownloadsFolder) folder).getFolder();
+    return fileNames.stream()
+      .filter(name -> extensions.contains(getExtension(name).toLowerCase(ROOT)))
+      .anyMatch(name -> excludingFilter.notMatch(new File(directory, name)));
+  }
+
+  @Override
+  public Map<String, Long> modificationTimes() {
+    if (watchService == null) {
+      return folder.modificationTimes();
+    }
+    if (modificationTimes == null) {
+      modificationTimes = folder.modificationTimes();
+    }
+    return modificationTimes;
+  }
+
+  @Override
+  public Optional<Long> lastModificationTime() {
+    if (watchService == null) {
+      return folder.lastModificationTime();
+    }
+    return lastChangeAt == 0 ? Optional.empty() : Optional.of(lastChangeAt);
+  }
+
+  @Override
+  public String filesAsString() {
+    return folder.filesAsString();
+  }
+
+  @Override
+  public void cleanupBeforeDownload() {
+    folder.cleanupBeforeDownload();
+  }
+
+  @Override
+  public void deleteIfEmpty() {
+    folder.deleteIfEmpty();
+  }
+
+  @Override
+  public String getPath() {
+    return folder.getPath();
+  }
+
+  @Override
+  public String toString() {
+    return folder.toString();
+  }
+
+  @Override
+  public void close() {
+    closeQuietly(watchService);
+  }
+
+  private static void closeQuietly(@Nullable WatchService watchService) {
+    if (watchService == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    }
+    catch (IOException e) {
+      log.debug("Failed to close watch service: {}", e.toString());
+    }
+  }
+}
@@ -2,19 +2,24 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.selector.ByDeepShadowCss;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.By;
 import org.openqa.selenium.By.ByCssSelector;
+import org.openqa.selenium.DetachedShadowRootException;
 import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Optional;
 
-import static com.codeborne.selenide.SelectorMode.CSS;
+import static com.codeborne.selenide.SelectorMode.JS;
+import static com.codeborne.selenide.SelectorMode.Sizzle;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.contains;
 
@@ -25,16 +30,35 @@ public class WebElementSelector {
   protected final FileContent sizzleSource = new FileContent("sizzle.js");
 
   public WebElement findElement(Driver driver, @Nullable WebElementSource parent, By selector, int index) {
-    return index == 0 ?
-      findElement(driver, parent, selector) :
-      findElements(driver, parent, selector).get(index);
+    Optional<SelectorChain> chain = compileChain(driver, parent, selector, index);
+    if (chain.isPresent()) {
+      return chain.get().findElement(driver);
+    }
+
+    if (index == 0) {
+      return findElement(driver, parent, selector);
+    }
+    if (selector instanceof ByDeepShadowCss) {
+      return findElements(driver, parent, selector, index, 1).get(0);
+    }
+    return findElements(driver, parent, selector).get(index);
   }
 
   public WebElement findElement(Driver driver, @Nullable WebElementSource parent, By selector) {
+    try {
+      return findElementIn(driver, parent, selector);
+    }
+    catch (StaleElementReferenceException | DetachedShadowRootException e) {
+      if (!resetSearchContext(parent)) throw e;
+      return findElementIn(driver, parent, selector);
+    }
+  }
+
+  private WebElement findElementIn(Driver driver, @Nullable WebElementSource parent, By selector) {
     SearchContext context = getSearchContext(driver, parent);
     checkThatXPathNotStartingFromSlash(context, selector);
 
-    if (driver.config().selectorMode() == CSS || !(selector instanceof ByCssSelector)) {
+    if (driver.config().selectorMode() != Sizzle || !(selector instanceof ByCssSelector)) {
       return findElement(context, selector);
     }
 
@@ -50,10 +74,69 @@ public class WebElementSelector {
   }
 
   public List<WebElement> findElements(Driver driver, @Nullable WebElementSource parent, By selector) {
+    Optional<SelectorChain> chain = compileChain(driver, parent, selector);
+    if (chain.isPresent()) {
+      return chain.get().findElements(driver);
+    }
+
+    try {
+      return findElementsIn(driver, parent, selector);
+    }
+    catch (StaleElementReferenceException | DetachedShadowRootException e) {
+      if (!resetSearchContext(parent)) throw e;
+      return findElementsIn(driver, parent, selector);
+    }
+  }
+
+  /**
+   * Find up to {@code count} elements starting from {@code fromIndex}.
+   * If possible, only the requested elements are sent from browser (the rest are skipped by JavaScript).
+   */
+  public List<WebElement> findElements(Driver driver, @Nullable WebElementSource parent, By selector, int fromIndex, int count) {
+    if (selector instanceof ByDeepShadowCss deepShadowCss) {
+      return deepShadowCss.findElements(getSearchContext(driver, parent), fromIndex, count);
+    }
+    Optional<SelectorChain> chain = useJavaScriptSlice(driver) ? SelectorChain.compileSlice(parent, selector) : Optional.empty();
+    if (chain.isPresent()) {
+      return chain.get().findElements(driver, fromIndex, count);
+    }
+
+    return CollectionSource.slice(findElements(driver, parent, selector), fromIndex, count);
+  }
+
+  /**
+   * WebDriver itself finds elements by CSS and XPath using the same JavaScript functions,
+   * so the slice can be used in any selector mode except Sizzle.
+   */
+  protected boolean useJavaScriptSlice(Driver driver) {
+    return driver.config().selectorMode() != Sizzle && driver.supportsJavascript();
+  }
+
+  private Optional<SelectorChain> compileChain(Driver driver, @Nullable WebElementSource parent, By selector, int index) {
+    return useSelectorChain(driver) ? SelectorChain.compile(parent, selector, index) : Optional.empty();
+  }
+
+  private Optional<SelectorChain> compileChain(Driver driver, @Nullable WebElementSource parent, By selector) {
+    return useSelectorChain(driver) ? SelectorChain.compile(parent, selector) : Optional.empty();
+  }
+
+  protected boolean useSelectorChain(Driver driver) {
+    return driver.config().selectorMode() == JS && driver.supportsJavascript();
+  }
+
+  /**
+   * If parent element was cached and became stale, forget it: it will be re-resolved starting from
+   * the nearest ancestor that is still valid.
+   */
+  private static boolean resetSearchContext(@Nullable WebElementSource parent) {
+    return parent != null && parent.resetSearchContext();
+  }
+
+  private List<WebElement> findElementsIn(Driver driver, @Nullable WebElementSource parent, By selector) {
     SearchContext context = getSearchContext(driver, parent);
     checkThatXPathNotStartingFromSlash(context, selector);
 
-    if (driver.config().selectorMode() == CSS || !(selector instanceof ByCssSelector)) {
+    if (driver.config().selectorMode() != Sizzle || !(selector instanceof ByCssSelector)) {
       return findElements(context, selector);
     }
 
@@ -99,24 +182,46 @@ public class WebElementSelector {
   }
 
   protected List<WebElement> evaluateSizzleSelector(Driver driver, SearchContext context, ByCssSelector sizzleCssSelector) {
-    injectSizzleIfNeeded(driver);
-
     String sizzleSelector = sizzleCssSelector.toString()
       .replace("By.selector: ", "")
       .replace("By.cssSelector: ", "");
 
+    List<WebElement> result = runSizzle(driver, context, sizzleSelector);
+    if (result == null) {
+      injectSizzle(driver);
+      result = runSizzle(driver, context, sizzleSelector);
+    }
+    return requireNonNull(result);
+  }
+
+  /**
+   * Checks if Sizzle is loaded and runs it in a single call
+   *
+   * @return null if Sizzle is not loaded yet
+   */
+  @Nullable
+  private List<WebElement> runSizzle(Driver driver, SearchContext context, String sizzleSelector) {
     if (context instanceof WebElement)
-      return requireNonNull(driver.executeJavaScript("return Sizzle(arguments[0], arguments[1])", sizzleSelector, context));
+      return driver.executeJavaScript("return typeof Sizzle == 'undefined' ? null : Sizzle(arguments[0], arguments[1])",
+        sizzleSelector, context);
     else
-      return requireNonNull(driver.executeJavaScript("return Sizzle(arguments[0])", sizzleSelector));
+      return driver.executeJavaScript("return typeof Sizzle == 'undefined' ? null : Sizzle(arguments[0])", sizzleSelector);
   }
 
+  /**
+   * @deprecated Not used anymore: Selenide checks if Sizzle is loaded and runs it in a single JavaScript call.
+   */
+  @Deprecated
   protected void injectSizzleIfNeeded(Driver driver) {
     if (!sizzleLoaded(driver)) {
       injectSizzle(driver);
     }
   }
 
+  /**
+   * @deprecated Not used anymore: Selenide checks if Sizzle is loaded and runs it in a single JavaScript call.
+   */
+  @Deprecated
   protected Boolean sizzleLoaded(Driver driver) {
     try {
       return requireNonNull(driver.executeJavaScript("return typeof Sizzle != 'undefined'"));
@@ -8,16 +8,19 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.ex.ElementShouldNot;
 import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.impl.ActionabilityCheck.ClickViaJs;
 import com.codeborne.selenide.selector.ByShadow;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.UnhandledAlertException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
 import static com.codeborne.selenide.Condition.clickable;
@@ -32,6 +35,8 @@ import static java.util.Objects.requireNonNull;
 public abstract class WebElementSource {
   private Alias alias = NONE;
   private final boolean shadowRoot;
+  @Nullable
+  private volatile SearchContext cachedSearchContext;
 
   protected WebElementSource() {
     this(false);
@@ -45,7 +50,47 @@ public abstract class WebElementSource {
 
   public abstract WebElement getWebElement();
 
+  /**
+   * Returns the context for searching nested elements.
+   * <p>
+   * If {@link com.codeborne.selenide.Config#cacheParentElements()} is enabled, the resolved context is remembered
+   * and reused until {@link #resetSearchContext()} is called (normally after {@link StaleElementReferenceException}).
+   * </p>
+   */
   public SearchContext getSearchContext() {
+    if (!driver().config().cacheParentElements()) {
+      return resolveSearchContext();
+    }
+
+    SearchContext context = cachedSearchContext;
+    if (context == null) {
+      context = resolveSearchContext();
+      cachedSearchContext = context;
+    }
+    return context;
+  }
+
+  /**
+   * Forget the cached search context, so that it will be re-resolved on the next call.
+   *
+   * @return true if there was a cached search context
+   */
+  @CanIgnoreReturnValue
+  public boolean resetSearchContext() {
+    boolean wasCached = cachedSearchContext != null;
+    cachedSearchContext = null;
+    return wasCached;
+  }
+
+  boolean hasCachedSearchContext() {
+    return cachedSearchContext != null;
+  }
+
+  boolean isShadowRoot() {
+    return shadowRoot;
+  }
+
+  private SearchContext resolveSearchContext() {
     WebElement webElement = getWebElement();
     if (shadowRoot) {
       return ByShadow.getShadowRoot(webElement)
@@ -101,8 +146,15 @@ public abstract class WebElementSource {
 
   @Nullable
   @CanIgnoreReturnValue
-  @SuppressWarnings("ErrorNotRethrown")
   private WebElement checkConditionAndReturnElement(String prefix, WebElementCondition condition, boolean invert) {
+    return checkConditionAndReturnElement(prefix, condition, invert, null);
+  }
+
+  @Nullable
+  @SuppressWarnings("ErrorNotRethrown")
+  private WebElement checkConditionAndReturnElement(String prefix, WebElementCondition condition, boolean invert,
+                                                    @Nullable ClickViaJs click) {
+    boolean prefetchState = !invert && ActionabilityCheck.canCheck(driver(), condition);
     WebElementCondition check = invert ? not(condition) : condition;
 
     Throwable lastError = null;
@@ -110,7 +162,8 @@ public abstract class WebElementSource {
     CheckResult checkResult = null;
     try {
       element = getWebElement();
-      checkResult = check.check(driver(), element);
+      WebElement subject = prefetchState ? ActionabilityCheck.prefetch(driver(), element, click) : element;
+      checkResult = check.check(driver(), subject);
 
       if (checkResult.verdict() == ACCEPT) {
         return element;
@@ -147,6 +200,22 @@ public abstract class WebElementSource {
     }
   }
 
+  /**
+   * Asserts that element is clickable, and clicks it via JavaScript - both in a single JavaScript call.
+   *
+   * @return false if it's not possible (see {@link com.codeborne.selenide.Config#checkActionabilityViaJs()}),
+   * in this case the caller should click the element in a usual way.
+   * @throws ElementNotFound or ElementShould if the element is not clickable
+   */
+  public boolean clickViaJsIfClickable(int offsetX, int offsetY, Map<String, Boolean> eventOptions) {
+    if (!ActionabilityCheck.canCheck(driver(), clickable)) {
+      return false;
+    }
+    ClickViaJs click = new ClickViaJs(offsetX, offsetY, eventOptions);
+    checkConditionAndReturnElement("be ", clickable, false, click);
+    return click.performed();
+  }
+
   public WebElement findAndAssertElementIsVisible() {
     return requireNonNull(checkConditionAndReturnElement("be ", visible, false));
   }
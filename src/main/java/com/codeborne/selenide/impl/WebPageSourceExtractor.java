@@ -21,6 +21,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class WebPageSourceExtractor implements PageSourceExtractor {
   private static final Logger log = LoggerFactory.getLogger(WebPageSourceExtractor.class);
   private final AttachmentHandler attachmentHandler = inject();
+  private final ArtifactWriter artifactWriter = inject();
   private final Set<String> printedErrors = new ConcurrentSkipListSet<>();
 
   @Override
@@ -37,9 +38,11 @@ public class WebPageSourceExtractor implements PageSourceExtractor {
         log.error("Failed to save page source to {}: page source is <null>", fileName);
         writeToFile("<null>", pageSource);
       }
+      else if (config.asyncScreenshots()) {
+        artifactWriter.submit(pageSource, () -> save(source, pageSource));
+      }
       else {
-        writeToFile(source, pageSource);
-        attachmentHandler.attach(pageSource);
+        save(source, pageSource);
       }
     }
     catch (UnhandledAlertException e) {
@@ -62,6 +65,11 @@ public class WebPageSourceExtractor implements PageSourceExtractor {
     return pageSource;
   }
 
+  private void save(String source, File pageSource) {
+    writeToFile(source, pageSource);
+    attachmentHandler.attach(pageSource);
+  }
+
   protected File createFile(Config config, WebDriver driver, String fileName) {
     return new File(config.reportsFolder(), fileName + ".html").getAbsoluteFile();
   }
@@ -0,0 +1,38 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.metrics.CommandBudget;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.create;
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+
+/**
+ * Checks that test doesn't issue more WebDriver commands than allowed by annotation {@link MaxWebDriverCommands}.
+ *
+ * <br>
+ * Usually you don't need to register it: annotation {@link MaxWebDriverCommands} does it.
+ */
+public class CommandBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+  private static final ExtensionContext.Namespace namespace = create(CommandBudgetExtension.class);
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    findAnnotation(context.getElement(), MaxWebDriverCommands.class)
+      .or(() -> findAnnotation(context.getTestClass(), MaxWebDriverCommands.class))
+      .ifPresent(max -> context.getStore(namespace).put(CommandBudget.class, CommandBudget.start(max.value())));
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    CommandBudget budget = context.getStore(namespace).remove(CommandBudget.class, CommandBudget.class);
+    //noinspection ConstantValue
+    if (budget != null) {
+      budget.stop();
+      if (context.getExecutionException().isEmpty()) {
+        budget.verify();
+      }
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.codeborne.selenide.junit5;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if it issued more WebDriver commands than given number.
+ *
+ * <br>
+ * Can be put on a test method or on a test class (then it's applied to every test of the class):
+ * <br>
+ * {@code @MaxWebDriverCommands(12) @Test void login() {...}}
+ * <br>
+ * NB! Commands are counted only for browsers opened by Selenide with setting {@link com.codeborne.selenide.Config#metrics()}.
+ *
+ * @see com.codeborne.selenide.metrics.CommandBudget
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(CommandBudgetExtension.class)
+public @interface MaxWebDriverCommands {
+  /**
+   * @return max number of WebDriver commands issued by a test (including "before each" and "after each" methods)
+   */
+  int value();
+}
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.junit5;
 
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
 import com.codeborne.selenide.logevents.SimpleReport;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import org.junit.jupiter.api.extension.AfterAllCallback;
@@ -7,10 +8,13 @@ import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import static com.codeborne.selenide.impl.Plugins.inject;
+
 /**
  * @author Aliaksandr Rasolka
  */
 public class TextReportExtension implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+  private final ScreenShotLaboratory screenshots = inject();
   private final SimpleReport report;
   private boolean onFailedTest;
   private boolean onSucceededTest;
@@ -57,6 +61,7 @@ public class TextReportExtension implements BeforeEachCallback, AfterEachCallbac
 
   @Override
   public void afterEach(final ExtensionContext context) {
+    screenshots.flush();
     if (onFailedTest && context.getExecutionException().isPresent()) {
       report.finish(context.getDisplayName());
     }
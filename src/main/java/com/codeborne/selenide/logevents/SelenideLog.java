@@ -1,7 +1,11 @@
 package com.codeborne.selenide.logevents;
 
+import com.codeborne.selenide.impl.Lazy;
 import org.jspecify.annotations.Nullable;
 
+import java.util.function.Supplier;
+
+import static com.codeborne.selenide.impl.Lazy.lazyEvaluated;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.IN_PROGRESS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
@@ -9,21 +13,29 @@ public class SelenideLog implements LogEvent {
 
   private final long startNs;
   private long endNs;
-  private final String subject;
-  private final String element;
+  private final Lazy<String> subject;
+  private final Lazy<String> element;
   private EventStatus status = IN_PROGRESS;
   @Nullable
   private Throwable error;
 
   public SelenideLog(String element, String subject) {
-    this.element = element;
-    this.subject = subject;
+    this(() -> element, () -> subject);
+  }
+
+  /**
+   * @param element description of element, evaluated only when somebody reads it
+   * @param subject description of action, evaluated only when somebody reads it
+   */
+  public SelenideLog(Supplier<String> element, Supplier<String> subject) {
+    this.element = lazyEvaluated(element);
+    this.subject = lazyEvaluated(subject);
     startNs = System.nanoTime();
   }
 
   @Override
   public String getSubject() {
-    return this.subject;
+    return this.subject.get();
   }
 
   @Override
@@ -38,7 +50,7 @@ public class SelenideLog implements LogEvent {
 
   @Override
   public String getElement() {
-    return this.element;
+    return this.element.get();
   }
 
   @Override
@@ -68,6 +80,6 @@ public class SelenideLog implements LogEvent {
 
   @Override
   public String toString() {
-    return String.format("$(\"%s\") %s", element, subject);
+    return String.format("$(\"%s\") %s", getElement(), getSubject());
   }
 }
@@ -30,6 +30,12 @@ public class SelenideLogger {
   private static final Pattern REGEX_UPPER_CASE = Pattern.compile("([A-Z])");
   private static final Map<String, LogEventListener> NO_LISTENERS = emptyMap();
 
+  /**
+   * Returned by {@code beginStep} when the current thread has no listeners: nobody will ever read it,
+   * so we don't even need to build its description.
+   */
+  private static final SelenideLog NO_OP_LOG = new SelenideLog("", "");
+
   /**
    * Add a listener (to the current thread).
    *
@@ -49,9 +55,19 @@ public class SelenideLogger {
   }
 
   public static SelenideLog beginStep(String source, String methodName, Object @Nullable... args) {
+    if (!hasListeners()) return NO_OP_LOG;
     return beginStep(source, getReadableSubject(methodName, args));
   }
 
+  /**
+   * Same as {@link #beginStep(String, String, Object...)}, but the source description
+   * is evaluated only if somebody listens to the events.
+   */
+  public static SelenideLog beginStep(Supplier<String> source, String methodName, Object @Nullable... args) {
+    if (!hasListeners()) return NO_OP_LOG;
+    return beginStep(source, () -> getReadableSubject(methodName, args));
+  }
+
   public static String getReadableSubject(String methodName, Object @Nullable... args) {
     return readableMethodName(methodName) + "(" + readableArguments(args) + ")";
   }
@@ -61,9 +77,21 @@ public class SelenideLogger {
   }
 
   public static SelenideLog beginStep(String source, String subject) {
-    Collection<LogEventListener> threadListeners = getEventLoggerListeners();
+    if (!hasListeners()) return NO_OP_LOG;
+    return notifyBeforeEvent(new SelenideLog(source, subject));
+  }
 
-    SelenideLog log = new SelenideLog(source, subject);
+  /**
+   * Same as {@link #beginStep(String, String)}, but descriptions are evaluated
+   * only when some listener reads them.
+   */
+  public static SelenideLog beginStep(Supplier<String> source, Supplier<String> subject) {
+    if (!hasListeners()) return NO_OP_LOG;
+    return notifyBeforeEvent(new SelenideLog(source, subject));
+  }
+
+  private static SelenideLog notifyBeforeEvent(SelenideLog log) {
+    Collection<LogEventListener> threadListeners = getEventLoggerListeners();
     for (LogEventListener listener : threadListeners) {
       try {
         listener.beforeEvent(log);
@@ -76,11 +104,13 @@ public class SelenideLogger {
   }
 
   public static void commitStep(SelenideLog log, Throwable error) {
+    if (log == NO_OP_LOG) return;
     log.setError(error);
     commitStep(log, FAIL);
   }
 
   public static void commitStep(SelenideLog log, EventStatus status) {
+    if (log == NO_OP_LOG) return;
     log.setStatus(status);
 
     Collection<LogEventListener> threadListeners = getEventLoggerListeners();
@@ -135,6 +165,11 @@ public class SelenideLogger {
     }
   }
 
+  private static boolean hasListeners() {
+    Map<String, LogEventListener> threadListeners = listeners.get();
+    return threadListeners != null && !threadListeners.isEmpty();
+  }
+
   private static Collection<LogEventListener> getEventLoggerListeners() {
     return requireNonNullElse(listeners.get(), NO_LISTENERS).values();
   }
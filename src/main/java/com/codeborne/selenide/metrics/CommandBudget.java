@@ -0,0 +1,134 @@
+package com.codeborne.selenide.metrics;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Counts WebDriver commands issued by the current thread, and fails if there are more commands than expected.
+ *
+ * <p>
+ *   Useful for performance regression tests: it allows to lock in the number of round trips to browser
+ *   made by a critical page object, e.g.
+ * </p>
+ * <pre>{@code
+ *   CommandBudget.expectAtMost(3, () -> $$(".item").shouldHave(texts("one", "two", "three")));
+ * }</pre>
+ *
+ * <p>
+ *   NB! Commands are counted only for browsers opened by Selenide with setting {@link com.codeborne.selenide.Config#metrics()}.
+ *   If the current thread doesn't use such a browser, the check fails with {@link IllegalStateException}.
+ * </p>
+ *
+ * @see com.codeborne.selenide.junit5.MaxWebDriverCommands
+ */
+public class CommandBudget {
+  private static final ThreadLocal<Deque<CommandBudget>> running = ThreadLocal.withInitial(ArrayDeque::new);
+  private static final ThreadLocal<Boolean> instrumentedThread = ThreadLocal.withInitial(() -> false);
+
+  private final int maxCommands;
+  private final List<String> commands = new ArrayList<>();
+  private boolean instrumented;
+
+  private CommandBudget(int maxCommands) {
+    if (maxCommands < 0) {
+      throw new IllegalArgumentException("Max number of commands must be non-negative, but was: " + maxCommands);
+    }
+    this.maxCommands = maxCommands;
+  }
+
+  /**
+   * Run given block and check that it issued at most {@code maxCommands} WebDriver commands
+   *
+   * @throws AssertionError if the block issued more commands
+   */
+  public static void expectAtMost(int maxCommands, Runnable block) {
+    CommandBudget budget = start(maxCommands);
+    try {
+      block.run();
+    }
+    finally {
+      budget.stop();
+    }
+    budget.verify();
+  }
+
+  /**
+   * Start counting WebDriver commands of the current thread.
+   * Budgets can be nested: every command is counted by all running budgets.
+   */
+  public static CommandBudget start(int maxCommands) {
+    CommandBudget budget = new CommandBudget(maxCommands);
+    running.get().push(budget);
+    return budget;
+  }
+
+  /**
+   * Mark the current thread as using (or not using anymore) a browser which counts WebDriver commands
+   */
+  static void instrumented(boolean instrumented) {
+    instrumentedThread.set(instrumented);
+    if (instrumented) {
+      for (CommandBudget budget : running.get()) {
+        budget.instrumented = true;
+      }
+    }
+  }
+
+  static void count(String command) {
+    for (CommandBudget budget : running.get()) {
+      budget.commands.add(command);
+    }
+  }
+
+  /**
+   * Stop counting WebDriver commands
+   */
+  @CanIgnoreReturnValue
+  public CommandBudget stop() {
+    running.get().remove(this);
+    return this;
+  }
+
+  /**
+   * @throws AssertionError if more than {@code maxCommands} WebDriver commands were issued
+   * @throws IllegalStateException if the browser of the current thread doesn't count WebDriver commands
+   */
+  public void verify() {
+    if (!instrumented && !instrumentedThread.get()) {
+      throw new IllegalStateException("WebDriver commands are not counted in thread " + Thread.currentThread().getName() +
+        ". Enable setting \"metrics\" and open the browser with Selenide (not via setWebDriver).");
+    }
+    if (commands.size() > maxCommands) {
+      throw new AssertionError(String.format("Expected at most %s WebDriver commands, but was: %s %s",
+        maxCommands, commands.size(), summary()));
+    }
+  }
+
+  /**
+   * @return names of WebDriver commands issued so far (e.g. "findElement", "getText", "executeScript")
+   */
+  public List<String> commands() {
+    return unmodifiableList(commands);
+  }
+
+  private Map<String, Integer> summary() {
+    Map<String, Integer> result = new LinkedHashMap<>();
+    for (String command : commands) {
+      result.merge(command, 1, Integer::sum);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s/%s WebDriver commands", commands.size(), maxCommands);
+  }
+}
@@ -0,0 +1,70 @@
+package com.codeborne.selenide.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values (like durations in nanoseconds or numbers of commands).
+ *
+ * <p>
+ *   Values are counted in power-of-two buckets, so percentiles are approximate:
+ *   a percentile is reported as the upper bound of its bucket (but never more than the max value).
+ * </p>
+ */
+public class Histogram {
+  private static final int BUCKETS = 64;
+
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+  public void record(long value) {
+    long v = Math.max(value, 0);
+    total.add(v);
+    max.accumulate(v);
+    buckets.incrementAndGet(bucket(v));
+  }
+
+  static int bucket(long value) {
+    return Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+  }
+
+  static long upperBound(int bucket) {
+    return bucket == 0 ? 0 : (1L << bucket) - 1;
+  }
+
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKETS];
+    long n = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      n += counts[i];
+    }
+    long maxValue = max.get();
+    return new Snapshot(n, total.sum(), maxValue,
+      percentile(counts, n, 0.5, maxValue), percentile(counts, n, 0.9, maxValue), percentile(counts, n, 0.99, maxValue));
+  }
+
+  private static long percentile(long[] counts, long n, double percentile, long maxValue) {
+    long rank = (long) Math.ceil(n * percentile);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank && seen > 0) {
+        return Math.min(upperBound(i), maxValue);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Values recorded by the histogram so far.
+   * NB! Counters are read one by one, so the snapshot taken during a test run may be slightly inconsistent.
+   */
+  public record Snapshot(long count, long total, long max, long p50, long p90, long p99) {
+    public double mean() {
+      return count == 0 ? 0 : (double) total / count;
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package com.codeborne.selenide.metrics;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.logevents.LogEvent;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.codeborne.selenide.impl.FileHelper.ensureParentFolderExists;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Default implementation of {@link SelenideMetrics}: aggregates metrics in memory (in lock-free histograms)
+ * and writes them to file "selenide-metrics.json" in {@link Config#reportsFolder()} at the end of the run.
+ *
+ * <ul>
+ *   <li>Per WebDriver command: latency histogram.</li>
+ *   <li>Per Selenide step (e.g. "click", "should have"): duration and number of WebDriver commands,
+ *       time spent in WebDriver commands, sleeping between checks and in Selenide itself, number of retries.
+ *       Metrics of nested steps are included into their parent steps.</li>
+ *   <li>Total number of retries and time spent sleeping.</li>
+ * </ul>
+ */
+public class HistogramMetrics implements SelenideMetrics {
+  private static final Logger log = LoggerFactory.getLogger(HistogramMetrics.class);
+
+  private final Map<String, Histogram> commands = new ConcurrentHashMap<>();
+  private final Map<String, StepMetrics> steps = new ConcurrentHashMap<>();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder sleepNanos = new LongAdder();
+  private final ThreadLocal<Deque<RunningStep>> runningSteps = ThreadLocal.withInitial(ArrayDeque::new);
+  private final AtomicBoolean writeOnShutdown = new AtomicBoolean();
+
+  @Override
+  public void start(Config config) {
+    if (writeOnShutdown.compareAndSet(false, true)) {
+      File file = new File(config.reportsFolder(), "selenide-metrics.json").getAbsoluteFile();
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> writeTo(file), "selenide-metrics"));
+    }
+  }
+
+  @Override
+  public void beforeEvent(LogEvent step) {
+    runningSteps.get().push(new RunningStep(step, nanoTime()));
+  }
+
+  @Override
+  public void afterEvent(LogEvent step) {
+    Deque<RunningStep> stack = runningSteps.get();
+    if (stack.stream().noneMatch(running -> running.event == step)) {
+      return; // the step has started before metrics were enabled
+    }
+
+    RunningStep finished;
+    do {
+      finished = stack.pop();
+    }
+    while (finished.event != step);
+
+    steps.computeIfAbsent(stepName(step), name -> new StepMetrics()).record(finished, nanoTime() - finished.startNanos);
+    RunningStep parent = stack.peek();
+    if (parent != null) {
+      parent.add(finished);
+    }
+  }
+
+  static String stepName(LogEvent step) {
+    String subject = step.getSubject();
+    int bracket = subject.indexOf('(');
+    return bracket > 0 ? subject.substring(0, bracket) : subject;
+  }
+
+  @Override
+  public void webDriverCommand(String command, long durationNanos) {
+    commands.computeIfAbsent(command, name -> new Histogram()).record(durationNanos);
+    RunningStep step = runningSteps.get().peek();
+    if (step != null) {
+      step.commands++;
+      step.commandsNanos += durationNanos;
+    }
+  }
+
+  @Override
+  public void retry(String method) {
+    retries.increment();
+    RunningStep step = runningSteps.get().peek();
+    if (step != null) {
+      step.retries++;
+    }
+  }
+
+  @Override
+  public void sleep(long durationNanos) {
+    sleepNanos.add(durationNanos);
+    RunningStep step = runningSteps.get().peek();
+    if (step != null) {
+      step.sleepNanos += durationNanos;
+    }
+  }
+
+  public Map<String, Histogram.Snapshot> webDriverCommands() {
+    return snapshot(commands, Histogram::snapshot);
+  }
+
+  public Map<String, StepSnapshot> steps() {
+    return snapshot(steps, StepMetrics::snapshot);
+  }
+
+  public long retries() {
+    return retries.sum();
+  }
+
+  public long sleepNanos() {
+    return sleepNanos.sum();
+  }
+
+  private static <T, S> Map<String, S> snapshot(Map<String, T> metrics, Function<T, S> snapshot) {
+    Map<String, S> result = new TreeMap<>();
+    metrics.forEach((name, metric) -> result.put(name, snapshot.apply(metric)));
+    return result;
+  }
+
+  public void reset() {
+    commands.clear();
+    steps.clear();
+    retries.reset();
+    sleepNanos.reset();
+  }
+
+  public String toJson() {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("webDriverCommands", toMap(webDriverCommands(), HistogramMetrics::latency));
+    json.put("steps", toMap(steps(), StepSnapshot::toMap));
+    json.put("retries", retries());
+    json.put("sleepMs", millis(sleepNanos()));
+    return new Json().toJson(json);
+  }
+
+  public void writeTo(File file) {
+    try {
+      ensureParentFolderExists(file);
+      Files.writeString(file.toPath(), toJson(), UTF_8);
+      log.info("Selenide metrics: {}", file);
+    }
+    catch (IOException | RuntimeException e) {
+      log.error("Failed to write Selenide metrics to {}", file, e);
+    }
+  }
+
+  private static <S> Map<String, Object> toMap(Map<String, S> snapshots, Function<S, Object> toMap) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    snapshots.forEach((name, snapshot) -> result.put(name, toMap.apply(snapshot)));
+    return result;
+  }
+
+  private static Map<String, Object> latency(Histogram.Snapshot nanos) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("count", nanos.count());
+    result.put("totalMs", millis(nanos.total()));
+    result.put("meanMs", millis(nanos.mean()));
+    result.put("p50Ms", millis(nanos.p50()));
+    result.put("p90Ms", millis(nanos.p90()));
+    result.put("p99Ms", millis(nanos.p99()));
+    result.put("maxMs", millis(nanos.max()));
+    return result;
+  }
+
+  private static Map<String, Object> counts(Histogram.Snapshot counts) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("total", counts.total());
+    result.put("mean", Math.round(counts.mean() * 100) / 100.0);
+    result.put("p50", counts.p50());
+    result.put("p90", counts.p90());
+    result.put("max", counts.max());
+    return result;
+  }
+
+  private static double millis(double nanos) {
+    return Math.round(nanos / 1000) / 1000.0;
+  }
+
+  /**
+   * Metrics of all steps with the same name
+   *
+   * @param duration          durations of steps (nanoseconds)
+   * @param webDriverCommands numbers of WebDriver commands per step
+   * @param webDriverNanos    total time spent in WebDriver commands
+   * @param sleepNanos        total time spent sleeping between checks
+   * @param retries           total number of retries
+   */
+  public record StepSnapshot(Histogram.Snapshot duration, Histogram.Snapshot webDriverCommands,
+                             long webDriverNanos, long sleepNanos, long retries) {
+    /**
+     * @return time spent neither in WebDriver commands nor sleeping: in Selenide itself (or in test code inside of step)
+     */
+    public long selenideNanos() {
+      return Math.max(duration.total() - webDriverNanos - sleepNanos, 0);
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("duration", latency(duration));
+      result.put("webDriverCommands", counts(webDriverCommands));
+      result.put("webDriverMs", millis(webDriverNanos));
+      result.put("sleepMs", millis(sleepNanos));
+      result.put("selenideMs", millis(selenideNanos()));
+      result.put("retries", retries);
+      return result;
+    }
+  }
+
+  private static class StepMetrics {
+    private final Histogram duration = new Histogram();
+    private final Histogram webDriverCommands = new Histogram();
+    private final LongAdder webDriverNanos = new LongAdder();
+    private final LongAdder sleepNanos = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    private void record(RunningStep step, long durationNanos) {
+      duration.record(durationNanos);
+      webDriverCommands.record(step.commands);
+      webDriverNanos.add(step.commandsNanos);
+      sleepNanos.add(step.sleepNanos);
+      retries.add(step.retries);
+    }
+
+    private StepSnapshot snapshot() {
+      return new StepSnapshot(duration.snapshot(), webDriverCommands.snapshot(),
+        webDriverNanos.sum(), sleepNanos.sum(), retries.sum());
+    }
+  }
+
+  /**
+   * Metrics of a step which is running in the current thread
+   */
+  private static class RunningStep {
+    private final LogEvent event;
+    private final long startNanos;
+    private long commands;
+    private long commandsNanos;
+    private long sleepNanos;
+    private long retries;
+
+    private RunningStep(LogEvent event, long startNanos) {
+      this.event = event;
+      this.startNanos = startNanos;
+    }
+
+    private void add(RunningStep nested) {
+      commands += nested.commands;
+      commandsNanos += nested.commandsNanos;
+      sleepNanos += nested.sleepNanos;
+      retries += nested.retries;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.codeborne.selenide.metrics;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.logevents.LogEventListener;
+
+/**
+ * Collects metrics of WebDriver commands and Selenide steps (if enabled by {@link Config#metrics()}).
+ *
+ * <p>
+ *   Loaded via {@link com.codeborne.selenide.impl.Plugins}, the default implementation is {@link HistogramMetrics}.
+ *   To send metrics to your metrics registry, either read {@link HistogramMetrics} at the end of the run,
+ *   or provide your own implementation in file {@code META-INF/services/com.codeborne.selenide.metrics.SelenideMetrics}.
+ * </p>
+ *
+ * <p>
+ *   As a {@link LogEventListener}, it's notified about every Selenide step of threads which opened a browser with metrics enabled.
+ *   All other methods can be called by many threads simultaneously.
+ *   Retries and sleeps are reported even if metrics are disabled (it's cheap), WebDriver commands - only if enabled.
+ * </p>
+ */
+public interface SelenideMetrics extends LogEventListener {
+  /**
+   * Called when Selenide opens a browser with metrics enabled (may be called many times)
+   */
+  default void start(Config config) {
+  }
+
+  /**
+   * @param command       name of WebDriver method (e.g. "findElement", "getText", "executeScript")
+   * @param durationNanos duration of the command (including the round trip to browser)
+   */
+  void webDriverCommand(String command, long durationNanos);
+
+  /**
+   * Selenide is going to retry a check or an action (after a failed attempt)
+   *
+   * @param method name of Selenide method (e.g. "click", "shouldHave")
+   */
+  void retry(String method);
+
+  /**
+   * Selenide has been sleeping between checks
+   */
+  void sleep(long durationNanos);
+}
@@ -0,0 +1,78 @@
+package com.codeborne.selenide.metrics;
+
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+import static java.lang.System.nanoTime;
+
+/**
+ * Measures every WebDriver command (including commands of elements, windows, alerts etc.) and reports it to {@link SelenideMetrics}.
+ * Also counts commands for running {@link CommandBudget}s, and marks the current thread as using an instrumented browser
+ * (from the moment the browser is created by this thread or used by it, until the browser quits).
+ */
+public class WebDriverMetricsListener implements WebDriverListener {
+  private static final Set<Class<?>> LOCAL_INTERFACES = Set.of(
+    Object.class, WrapsDriver.class, WrapsElement.class, HasCapabilities.class
+  );
+  private static final Set<Class<?>> LOCAL_HELPERS = Set.of(
+    WebDriver.Options.class, WebDriver.Navigation.class, WebDriver.TargetLocator.class, WebDriver.Window.class, WebDriver.Timeouts.class
+  );
+
+  private final SelenideMetrics metrics;
+  private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+  public WebDriverMetricsListener(SelenideMetrics metrics) {
+    this.metrics = metrics;
+    CommandBudget.instrumented(true);
+  }
+
+  @Override
+  public void beforeAnyCall(Object target, Method method, Object @Nullable [] args) {
+    CommandBudget.instrumented(true);
+    if (isCommand(method)) {
+      startTimes.get().push(nanoTime());
+    }
+  }
+
+  @Override
+  public void afterAnyCall(Object target, Method method, Object @Nullable [] args, @Nullable Object result) {
+    finished(method);
+    if ("quit".equals(method.getName())) {
+      CommandBudget.instrumented(false);
+    }
+  }
+
+  @Override
+  public void onError(Object target, Method method, Object @Nullable [] args, InvocationTargetException e) {
+    finished(method);
+  }
+
+  private void finished(Method method) {
+    if (!isCommand(method)) return;
+
+    CommandBudget.count(method.getName());
+    Long start = startTimes.get().poll();
+    if (start != null) {
+      metrics.webDriverCommand(method.getName(), nanoTime() - start);
+    }
+  }
+
+  /**
+   * @return false for methods which are executed locally, without calling browser
+   *         (like {@code manage()} or {@code switchTo()} which just return a helper object)
+   */
+  static boolean isCommand(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    return !LOCAL_INTERFACES.contains(declaringClass) && !LOCAL_HELPERS.contains(method.getReturnType());
+  }
+}
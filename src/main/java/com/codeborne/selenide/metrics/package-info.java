@@ -0,0 +1,6 @@
+@NullMarked
+@CheckReturnValue
+package com.codeborne.selenide.metrics;
+
+import com.google.errorprone.annotations.CheckReturnValue;
+import org.jspecify.annotations.NullMarked;
@@ -5,10 +5,17 @@ import com.browserup.bup.filters.RequestFilter;
 import com.browserup.bup.filters.RequestFilterAdapter;
 import com.browserup.bup.filters.ResponseFilter;
 import com.browserup.bup.filters.ResponseFilterAdapter;
+import org.littleshoot.proxy.HttpFiltersSource;
 
 /**
  * By default, BrowserUpProxyServer doesn't allow requests/responses bugger than 2 MB.
  * We need this class to enable bigger sizes.
+ *
+ * <p>
+ *   Response filters which can process a response chunk by chunk (i.e. implement {@link HttpFiltersSource},
+ *   like {@link FileDownloadFilter}) are registered as is. Thus responses are not aggregated in memory
+ *   unless some other (usual) response filter is added.
+ * </p>
  */
 class BrowserUpProxyServerUnlimited extends BrowserUpProxyServer {
   private static final int MAX_FILE_SIZE = Integer.MAX_VALUE; // 2 GB
@@ -25,11 +32,17 @@ class BrowserUpProxyServerUnlimited extends BrowserUpProxyServer {
 
   @Override
   public void addResponseFilter(ResponseFilter filter) {
-    addLastHttpFilterFactory(new ResponseFilterAdapter.FilterSource(filter, MAX_FILE_SIZE));
+    addLastHttpFilterFactory(filtersSource(filter));
   }
 
   @Override
   public void removeResponseFilter(ResponseFilter filter) {
-    removeHttpFilterFactory(new ResponseFilterAdapter.FilterSource(filter, MAX_FILE_SIZE));
+    removeHttpFilterFactory(filtersSource(filter));
+  }
+
+  private HttpFiltersSource filtersSource(ResponseFilter filter) {
+    return filter instanceof HttpFiltersSource streamingFilter ?
+      streamingFilter :
+      new ResponseFilterAdapter.FilterSource(filter, MAX_FILE_SIZE);
   }
 }
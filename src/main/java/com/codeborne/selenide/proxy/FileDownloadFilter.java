@@ -9,11 +9,14 @@ import com.codeborne.selenide.files.DownloadedFile;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.Downloads;
 import com.codeborne.selenide.impl.HttpHelper;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import org.apache.commons.io.FileUtils;
 import org.jspecify.annotations.Nullable;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,14 +30,24 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-public class FileDownloadFilter implements RequestFilter, ResponseFilter {
+/**
+ * Intercepts files downloaded by browser.
+ *
+ * <p>
+ *   When registered in {@link BrowserUpProxyServerUnlimited}, response bodies are streamed directly to files
+ *   (see {@link FileDownloadStream}) instead of being aggregated in memory.
+ *   Method {@link #filterResponse(HttpResponse, HttpMessageContents, HttpMessageInfo)} is only used
+ *   if the filter is added to proxy as a usual (aggregating) response filter.
+ * </p>
+ */
+public class FileDownloadFilter extends HttpFiltersSourceAdapter implements RequestFilter, ResponseFilter {
   private static final Logger log = LoggerFactory.getLogger(FileDownloadFilter.class);
 
   private final Config config;
   private final Downloader downloader;
 
   private final HttpHelper httpHelper = new HttpHelper();
-  private boolean active;
+  private volatile boolean active;
   private final Downloads downloads = new Downloads();
   private final List<Response> responses = new CopyOnWriteArrayList<>();
 
@@ -78,6 +91,11 @@ public class FileDownloadFilter implements RequestFilter, ResponseFilter {
     return null;
   }
 
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new FileDownloadStream(this, originalRequest, ctx);
+  }
+
   @Override
   public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
     if (!active) return;
@@ -87,16 +105,13 @@ public class FileDownloadFilter implements RequestFilter, ResponseFilter {
       response.status().reasonPhrase(),
       toMap(response.headers()),
       contents.getContentType(),
-      contents.getTextContents()
+      contents.getBinaryContents().length
     );
-    responses.add(r);
-    log.debug("Intercepted response #{}: {}", responses.size(), r);
+    intercepted(r);
 
-    if (response.status().code() < 200 || response.status().code() >= 300) return;
+    if (!r.isSuccessful()) return;
 
-    String fileName = getFileName(r);
-
-    File file = downloader.prepareTargetFile(config, fileName);
+    File file = prepareTargetFile(r.url, r.headers);
     try {
       FileUtils.writeByteArrayToFile(file, contents.getBinaryContents());
       downloads.add(new DownloadedFile(file, r.headers));
@@ -106,7 +121,24 @@ public class FileDownloadFilter implements RequestFilter, ResponseFilter {
     }
   }
 
-  private Map<String, String> toMap(HttpHeaders headers) {
+  boolean isActive() {
+    return active;
+  }
+
+  void intercepted(Response response) {
+    responses.add(response);
+    log.debug("Intercepted response #{}: {}", responses.size(), response);
+  }
+
+  void downloaded(DownloadedFile file) {
+    downloads.add(file);
+  }
+
+  File prepareTargetFile(String url, Map<String, String> headers) {
+    return downloader.prepareTargetFile(config, getFileName(url, headers));
+  }
+
+  static Map<String, String> toMap(HttpHeaders headers) {
     Map<String, String> map = new HashMap<>();
     for (Map.Entry<String, String> header : headers) {
       map.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
@@ -121,15 +153,15 @@ public class FileDownloadFilter implements RequestFilter, ResponseFilter {
     return downloads;
   }
 
-  private String getFileName(Response response) {
-    return httpHelper.getFileNameFromContentDisposition(response.headers)
+  private String getFileName(String url, Map<String, String> headers) {
+    return httpHelper.getFileNameFromContentDisposition(headers)
       .map(httpHelper::normalize)
       .orElseGet(() -> {
-        log.info("Cannot extract file name from http headers for {}. Found headers: {}", response.url, response.headers);
+        log.info("Cannot extract file name from http headers for {}. Found headers: {}", url, headers);
 
-        String fileNameFromUrl = httpHelper.getFileName(response.url);
+        String fileNameFromUrl = httpHelper.getFileName(url);
         String result = isNotBlank(fileNameFromUrl) ? fileNameFromUrl : downloader.randomFileName();
-        log.info("Generated file name for {}: {}", response.url, result);
+        log.info("Generated file name for {}: {}", url, result);
         return result;
       });
   }
@@ -148,28 +180,40 @@ public class FileDownloadFilter implements RequestFilter, ResponseFilter {
     return sb.toString();
   }
 
-  private static class Response {
+  /**
+   * Only metadata of intercepted response (its content is not kept in memory)
+   */
+  static class Response {
     private final String url;
     private final int code;
     private final String reasonPhrase;
+    @Nullable
     private final String contentType;
     private final Map<String, String> headers;
-    private final String content;
+    private final long contentLength;
 
-    private Response(String url, int code, String reasonPhrase, Map<String, String> headers,
-                     String contentType, String content) {
+    Response(String url, int code, String reasonPhrase, Map<String, String> headers,
+             @Nullable String contentType, long contentLength) {
       this.url = url;
       this.code = code;
       this.reasonPhrase = reasonPhrase;
       this.headers = headers;
       this.contentType = contentType;
-      this.content = content;
+      this.contentLength = contentLength;
+    }
+
+    static boolean isSuccessful(int code) {
+      return code >= 200 && code < 300;
+    }
+
+    boolean isSuccessful() {
+      return isSuccessful(code);
     }
 
     @Override
     public String toString() {
       return url + " -> " + code + " \"" + reasonPhrase + "\" " + headers + " " +
-          contentType + " " + " (" + content.length() + " bytes)";
+          contentType + " " + " (" + contentLength + " bytes)";
     }
   }
 }
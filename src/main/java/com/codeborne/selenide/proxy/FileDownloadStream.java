@@ -0,0 +1,151 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.filters.HttpsAwareFiltersAdapter;
+import com.codeborne.selenide.files.DownloadedFile;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+
+import static com.codeborne.selenide.proxy.FileDownloadFilter.Response.isSuccessful;
+import static com.codeborne.selenide.proxy.FileDownloadFilter.toMap;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes body of a single http response directly to a file, chunk by chunk.
+ * <p>
+ * Thus memory consumption doesn't depend on the size of downloaded file.
+ * For non-successful responses, only headers and content length are recorded.
+ * </p>
+ */
+class FileDownloadStream extends HttpsAwareFiltersAdapter {
+  private static final Logger log = LoggerFactory.getLogger(FileDownloadStream.class);
+
+  private final FileDownloadFilter filter;
+  private boolean intercepting;
+  private String url = "";
+  private int code;
+  private String reasonPhrase = "";
+  private Map<String, String> headers = Map.of();
+  @Nullable
+  private String contentType;
+  private long contentLength;
+  @Nullable
+  private File file;
+  @Nullable
+  private FileChannel channel;
+
+  FileDownloadStream(FileDownloadFilter filter, HttpRequest originalRequest, @Nullable ChannelHandlerContext ctx) {
+    super(originalRequest, ctx);
+    this.filter = filter;
+  }
+
+  @Override
+  public HttpObject serverToProxyResponse(HttpObject httpObject) {
+    if (httpObject instanceof HttpResponse response) {
+      start(response);
+    }
+    if (intercepting && httpObject instanceof HttpContent content) {
+      write(content.content());
+      if (content instanceof LastHttpContent) {
+        complete();
+      }
+    }
+    return httpObject;
+  }
+
+  @Override
+  public void serverToProxyResponseTimedOut() {
+    intercepting = false;
+    discardFile();
+  }
+
+  private void start(HttpResponse response) {
+    intercepting = filter.isActive();
+    if (!intercepting) return;
+
+    url = getOriginalUrl();
+    code = response.status().code();
+    reasonPhrase = response.status().reasonPhrase();
+    headers = toMap(response.headers());
+    contentType = response.headers().get(CONTENT_TYPE);
+    contentLength = 0;
+
+    if (isSuccessful(code)) {
+      file = filter.prepareTargetFile(url, headers);
+      try {
+        channel = FileChannel.open(file.toPath(), CREATE, WRITE, TRUNCATE_EXISTING);
+      }
+      catch (IOException e) {
+        log.error("Failed to save downloaded file to {} for url {}", file.getAbsolutePath(), url, e);
+        file = null;
+      }
+    }
+  }
+
+  private void write(ByteBuf content) {
+    int length = content.readableBytes();
+    if (channel != null) {
+      try {
+        int index = content.readerIndex();
+        for (int written = 0; written < length; ) {
+          written += content.getBytes(index + written, channel, contentLength + written, length - written);
+        }
+      }
+      catch (IOException e) {
+        log.error("Failed to save downloaded file to {} for url {}", file, url, e);
+        discardFile();
+      }
+    }
+    contentLength += length;
+  }
+
+  private void complete() {
+    intercepting = false;
+    filter.intercepted(new FileDownloadFilter.Response(url, code, reasonPhrase, headers, contentType, contentLength));
+
+    if (channel != null && file != null) {
+      try {
+        channel.close();
+        filter.downloaded(new DownloadedFile(file, headers));
+      }
+      catch (IOException e) {
+        log.error("Failed to save downloaded file to {} for url {}", file.getAbsolutePath(), url, e);
+      }
+      finally {
+        channel = null;
+        file = null;
+      }
+    }
+  }
+
+  private void discardFile() {
+    if (channel != null) {
+      try {
+        channel.close();
+      }
+      catch (IOException e) {
+        log.debug("Failed to close file {}: {}", file, e.toString());
+      }
+      channel = null;
+    }
+    if (file != null && !file.delete()) {
+      log.debug("Failed to delete incomplete file {}", file);
+    }
+    file = null;
+  }
+}
@@ -3,11 +3,26 @@ package com.codeborne.selenide.proxy;
 import com.browserup.bup.filters.ResponseFilter;
 import com.browserup.bup.util.HttpMessageContents;
 import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ResponseSizeWatchdog implements ResponseFilter {
+/**
+ * Warns about too large responses.
+ * <p>
+ * When registered in {@link BrowserUpProxyServerUnlimited}, it only counts bytes of a streamed response
+ * (without aggregating the response in memory).
+ * </p>
+ */
+public class ResponseSizeWatchdog extends HttpFiltersSourceAdapter implements ResponseFilter {
   private static final Logger log = LoggerFactory.getLogger(ResponseSizeWatchdog.class);
 
   private final int threshold = 4 * 1024 * 1024; // 4 MB
@@ -19,4 +34,22 @@ public class ResponseSizeWatchdog implements ResponseFilter {
       log.trace("Response content: {}", contents.getTextContents());
     }
   }
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      private long size;
+
+      @Override
+      public HttpObject serverToProxyResponse(HttpObject httpObject) {
+        if (httpObject instanceof HttpContent content) {
+          size += content.content().readableBytes();
+          if (content instanceof LastHttpContent && size > threshold) {
+            log.warn("Too large response {}: {} bytes", originalRequest.uri(), size);
+          }
+        }
+        return httpObject;
+      }
+    };
+  }
 }
@@ -37,7 +37,7 @@ public class ByDeepShadowCss extends By implements Serializable {
 
   @Override
   public WebElement findElement(SearchContext context) {
-    List<WebElement> found = findElements(context);
+    List<WebElement> found = findElements(context, 0, 1);
     if (found.isEmpty()) {
       throw new NoSuchElementException("Cannot locate an element in shadow dom " + this);
     }
@@ -46,8 +46,16 @@ public class ByDeepShadowCss extends By implements Serializable {
 
   @Override
   public List<WebElement> findElements(SearchContext context) {
+    return findElements(context, 0, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Find up to {@code limit} elements starting from {@code fromIndex}.
+   * Traversal of shadow roots stops as soon as the requested elements are found.
+   */
+  public List<WebElement> findElements(SearchContext context, int fromIndex, int limit) {
     try {
-      return requireNonNullElse(jsSource.execute(context, target), emptyList());
+      return requireNonNullElse(jsSource.execute(context, target, fromIndex, limit), emptyList());
     } catch (JavascriptException e) {
       throw new NoSuchElementException(Cleanup.of.webdriverExceptionMessage(e));
     }
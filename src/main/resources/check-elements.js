@@ -0,0 +1,5 @@
+(function (elements, predicate) {
+  const matches = import 'element-predicate.js';
+
+  return elements.map(element => matches(element, predicate));
+})(...arguments)
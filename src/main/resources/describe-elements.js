@@ -0,0 +1,34 @@
+(function (elements) {
+  function attributes(element) {
+    const attributesMap = {};
+    const attrs = element.attributes;
+    for (let i = 0; i < attrs.length; i++) {
+      const a = attrs[i];
+      if (a.name !== 'style') {
+        attributesMap[a.name] = a.value;
+      }
+    }
+    if (element.value) attributesMap['value'] = element.value;
+    if (element.type) attributesMap['type'] = element.type;
+    return attributesMap;
+  }
+
+  function isDisplayed(element) {
+    if (typeof element.checkVisibility === 'function') {
+      return element.checkVisibility({visibilityProperty: true}) && element.getClientRects().length > 0;
+    }
+    const style = window.getComputedStyle(element);
+    return style.display !== 'none' && style.visibility !== 'hidden' && element.getClientRects().length > 0;
+  }
+
+  return elements.map(function (element) {
+    const displayed = isDisplayed(element);
+    return {
+      tagName: element.localName,
+      attributes: attributes(element),
+      selected: !!(element.selected || element.checked),
+      displayed: displayed,
+      text: displayed && typeof element.innerText === 'string' ? element.innerText.trim() : ''
+    };
+  });
+})(arguments[0])
@@ -0,0 +1,32 @@
+(function () {
+  // The same functions which are used by WebDriver's "isDisplayed" and "getAttribute" commands
+  const isDisplayed = import 'org/openqa/selenium/remote/isDisplayed.js';
+  const getAttribute = import 'org/openqa/selenium/remote/getAttribute.js';
+
+  function matches(element, [name, ...args]) {
+    switch (name) {
+      case 'exist':
+        return true;
+      case 'visible':
+        return !!isDisplayed(element);
+      case 'enabled':
+        return !(typeof element.matches === 'function' && element.matches(':disabled'));
+      case 'cssClass':
+        return (getAttribute(element, 'class') || '').split(' ').includes(args[0]);
+      case 'attribute':
+        return getAttribute(element, args[0]) !== null;
+      case 'attributeValue':
+        return (getAttribute(element, args[0]) || '') === args[1];
+      case 'not':
+        return !matches(element, args[0]);
+      case 'and':
+        return args.every(predicate => matches(element, predicate));
+      case 'or':
+        return args.some(predicate => matches(element, predicate));
+      default:
+        throw new Error('Unknown predicate: ' + name);
+    }
+  }
+
+  return matches;
+})()
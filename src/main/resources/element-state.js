@@ -0,0 +1,19 @@
+(function (element, click) {
+  import 'click-event.js'
+
+  // The same function which is used by WebDriver's "isDisplayed" command
+  const isDisplayed = import 'org/openqa/selenium/remote/isDisplayed.js';
+
+  const displayed = !!isDisplayed(element);
+  const opacity = window.getComputedStyle(element).opacity;
+  const enabled = !(typeof element.matches === 'function' && element.matches(':disabled'));
+  const readonly = element.readOnly === true || element.hasAttribute('readonly') ? 'true' : null;
+
+  let clicked = false;
+  if (click && (displayed || opacity === '0') && enabled) {
+    dispatchClick(element, click.offsetX, click.offsetY, click.options);
+    clicked = true;
+  }
+
+  return {displayed, opacity, enabled, readonly, clicked};
+})(...arguments)
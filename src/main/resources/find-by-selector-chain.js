@@ -0,0 +1 @@
+(import 'selector-chain.js')(...arguments)
@@ -1,4 +1,4 @@
-(function (selector, element) {
+(function (selector, fromIndex, limit) {
 //   Sources below transpiled from https://github.com/Georgegriff/query-selector-shadow-dom
 //   with custom rollup.config.js content:
 //   import babel from 'rollup-plugin-babel';
@@ -354,6 +354,9 @@
     exports.collectAllElementsDeep = collectAllElementsDeep;
     exports.querySelectorAllDeep = querySelectorAllDeep;
     exports.querySelectorDeep = querySelectorDeep;
+    exports.normalizeSelector = normalizeSelector;
+    exports.splitByCharacterUnlessQuoted = splitByCharacterUnlessQuoted;
+    exports.findMatchingElement = findMatchingElement;
 
     Object.defineProperty(exports, '__esModule', { value: true });
 
@@ -361,5 +364,95 @@
 
   }({}));
 /// THIRD PARTY LIB CODE ENDS
-return querySelectorShadowDom.querySelectorAllDeep(selector, element);
+
+  // Same as querySelectorAllDeep (returns elements in the same order), but
+  // 1. stops traversal as soon as `fromIndex + limit` elements are found,
+  // 2. doesn't walk all elements of the page: it asks browser for elements matching the last part of selector,
+  //    and remembers which elements are shadow hosts (until DOM is changed or page is reloaded).
+  const lib = querySelectorShadowDom;
+  const cache = window.__selenideShadowHosts || (window.__selenideShadowHosts = createShadowHostsCache());
+  const root = document;
+  const wanted = fromIndex + limit;
+
+  if (!(document.head.createShadowRoot || document.head.attachShadow)) {
+    return Array.from(root.querySelectorAll(selector)).slice(fromIndex, wanted);
+  }
+
+  const found = [];
+  search();
+  return found.slice(fromIndex, wanted);
+
+  function search() {
+    const selectionsToMake = lib.splitByCharacterUnlessQuoted(lib.normalizeSelector(selector), ',');
+    for (const minimalSelector of selectionsToMake) {
+      const splitSelector = lib.splitByCharacterUnlessQuoted(minimalSelector
+        .replace(/^\s+/g, '').replace(/\s*([>+~]+)\s*/g, '$1'), ' ')
+        .filter(entry => !!entry)
+        .map(entry => lib.splitByCharacterUnlessQuoted(entry, '>'));
+      const possibleElementsIndex = splitSelector.length - 1;
+      const lastSplitPart = splitSelector[possibleElementsIndex][splitSelector[possibleElementsIndex].length - 1];
+      const isMatching = lib.findMatchingElement(splitSelector, possibleElementsIndex, root);
+
+      if (searchInScope(root, lastSplitPart, isMatching)) break;
+    }
+  }
+
+  /**
+   * Collects matching elements of the scope (document or shadow root), including elements of nested shadow roots.
+   * Content of a shadow root goes right after its host element (like in querySelectorAllDeep).
+   * @return true if enough elements have been found
+   */
+  function searchInScope(scope, simpleSelector, isMatching) {
+    const hosts = shadowHosts(scope);
+    let h = 0;
+    const searchInNextHost = () => {
+      const shadowRoot = hosts[h++].shadowRoot;
+      return !!shadowRoot && searchInScope(shadowRoot, simpleSelector, isMatching);
+    };
+
+    for (const candidate of scope.querySelectorAll(simpleSelector)) {
+      while (h < hosts.length && precedes(hosts[h], candidate)) {
+        if (searchInNextHost()) return true;
+      }
+      if (isMatching(candidate) && found.push(candidate) >= wanted) return true;
+      if (h < hosts.length && hosts[h] === candidate) {
+        if (searchInNextHost()) return true;
+      }
+    }
+    while (h < hosts.length) {
+      if (searchInNextHost()) return true;
+    }
+    return false;
+  }
+
+  function precedes(node, other) {
+    return node !== other && (node.compareDocumentPosition(other) & Node.DOCUMENT_POSITION_FOLLOWING) !== 0;
+  }
+
+  function shadowHosts(scope) {
+    let hosts = cache.hosts.get(scope);
+    if (!hosts) {
+      hosts = Array.prototype.filter.call(scope.querySelectorAll('*'), el => !!el.shadowRoot);
+      cache.hosts.set(scope, hosts);
+      cache.observer.observe(scope, {childList: true, subtree: true});
+    }
+    return hosts;
+  }
+
+  /**
+   * Any added/removed element can be (or contain) a shadow host, so the whole cache is dropped.
+   * Attaching a shadow root to an element already in DOM (including upgrade of a custom element)
+   * doesn't produce any mutation record, that's why `attachShadow` also drops the cache.
+   * After page reload, the cache is gone together with the `window` object.
+   */
+  function createShadowHostsCache() {
+    const newCache = {hosts: new WeakMap()};
+    newCache.observer = new MutationObserver(() => newCache.hosts = new WeakMap());
+    const attachShadow = Element.prototype.attachShadow;
+    Element.prototype.attachShadow = function () {
+      newCache.hosts = new WeakMap();
+      return attachShadow.apply(this, arguments);
+    };
+    return newCache;
+  }
 })(...arguments);
@@ -0,0 +1,35 @@
+function (root, steps, fromIndex, count) {
+  function findAll(context, step) {
+    if (step.using === 'xpath') {
+      const result = document.evaluate(step.value, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+      const elements = [];
+      for (let i = 0; i < result.snapshotLength; i++) {
+        const node = result.snapshotItem(i);
+        if (node.nodeType === Node.ELEMENT_NODE) {
+          elements.push(node);
+        }
+      }
+      return elements;
+    }
+    if (step.index === 0) {
+      const element = context.querySelector(step.value);
+      return element ? [element] : [];
+    }
+    return context.querySelectorAll(step.value);
+  }
+
+  let context = root || document;
+  for (let i = 0; i < steps.length; i++) {
+    const step = steps[i];
+    const elements = findAll(context, step);
+    if (step.index < 0) {
+      const all = Array.from(elements);
+      return count >= 0 ? all.slice(fromIndex, fromIndex + count) : all;
+    }
+    if (step.index >= elements.length) {
+      return i;
+    }
+    context = elements[step.index];
+  }
+  return context;
+}
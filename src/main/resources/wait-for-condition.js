@@ -0,0 +1,67 @@
+(function (root, steps, predicate, missingElementMatches, timeoutMs, done) {
+  const locate = import 'selector-chain.js';
+  const matches = import 'element-predicate.js';
+
+  function collectionMatches(elements, [name, operator, expectedSize]) {
+    if (name !== 'size') throw new Error('Unknown predicate: ' + name);
+    const size = elements.length;
+    switch (operator) {
+      case '=': return size === expectedSize;
+      case '<>': return size !== expectedSize;
+      case '>': return size > expectedSize;
+      case '>=': return size >= expectedSize;
+      case '<': return size < expectedSize;
+      case '<=': return size <= expectedSize;
+      default: throw new Error('Unknown operator: ' + operator);
+    }
+  }
+
+  function isSatisfied() {
+    const found = locate(root, steps, 0, -1);
+    if (typeof found === 'number') return missingElementMatches;
+    return Array.isArray(found) ? collectionMatches(found, predicate) : matches(found, predicate);
+  }
+
+  try {
+    if (isSatisfied()) {
+      return done('satisfied');
+    }
+  }
+  catch (e) {
+    return done('error: ' + e);
+  }
+
+  // Re-check the condition after every DOM change and before every repaint (e.g. CSS animation),
+  // and return as soon as it's met (or the given time is over)
+  let finished = false;
+  let frame = null;
+  const observer = new MutationObserver(check);
+  const timer = setTimeout(() => finish('timeout'), timeoutMs);
+  observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+  if (typeof requestAnimationFrame === 'function') {
+    frame = requestAnimationFrame(onAnimationFrame);
+  }
+
+  function check() {
+    try {
+      if (!finished && isSatisfied()) finish('changed');
+    }
+    catch (e) {
+      finish('changed');
+    }
+  }
+
+  function onAnimationFrame() {
+    check();
+    if (!finished) frame = requestAnimationFrame(onAnimationFrame);
+  }
+
+  function finish(result) {
+    if (finished) return;
+    finished = true;
+    observer.disconnect();
+    clearTimeout(timer);
+    if (frame !== null) cancelAnimationFrame(frame);
+    done(result);
+  }
+})(...arguments)
@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.AdaptivePolling;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,4 +21,36 @@ final class StopwatchTest {
     assertThat(stopwatch.isTimeoutReached(1_666_000_001)).isTrue();
     assertThat(stopwatch.isTimeoutReached(2_000_000_000)).isTrue();
   }
+
+  @Test
+  void fixedPolling_sleepsPollingInterval() {
+    assertThat(stopwatch.nextDelay(200, 1_000_000_000)).isEqualTo(200);
+    assertThat(stopwatch.nextDelay(200, 1_600_000_000)).isEqualTo(200);
+    assertThat(stopwatch.isTimeoutReached(1_666_000_000)).isFalse();
+  }
+
+  @Test
+  void noDelay_ifTimeoutIsReached() {
+    assertThat(stopwatch.nextDelay(200, 1_666_000_001)).isEqualTo(0);
+  }
+
+  @Test
+  void adaptivePolling_growsDelays() {
+    Stopwatch adaptive = new Stopwatch(4000, startedAt, new AdaptivePolling(10, 1000, 0));
+
+    assertThat(adaptive.nextDelay(200, 1_000_000_000)).isEqualTo(10);
+    assertThat(adaptive.nextDelay(200, 1_010_000_000)).isEqualTo(20);
+    assertThat(adaptive.nextDelay(200, 1_030_000_000)).isEqualTo(40);
+    assertThat(adaptive.nextDelay(200, 1_070_000_000)).isEqualTo(80);
+  }
+
+  @Test
+  void adaptivePolling_checksOnceMoreRightBeforeTimeout() {
+    Stopwatch adaptive = new Stopwatch(666, startedAt, new AdaptivePolling(500, 1000, 0));
+
+    assertThat(adaptive.nextDelay(200, 1_000_000_000)).isEqualTo(500);
+    assertThat(adaptive.nextDelay(200, 1_500_000_000)).as("shortened to the deadline").isEqualTo(167);
+    assertThat(adaptive.isTimeoutReached()).as("final check").isFalse();
+    assertThat(adaptive.isTimeoutReached(1_666_000_001)).isTrue();
+  }
 }
@@ -0,0 +1,120 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.time.Duration;
+
+import static com.codeborne.selenide.TypeOptions.text;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+final class TypeCommandTest {
+  private final SelenideElement proxy = mock();
+  private final WebElementSource locator = mock();
+  private final Clear clear = mock();
+  private final Type command = new Type(clear);
+  private final WebElement element = mock();
+  private final Driver driver = mock();
+  private final Actions actions = mock(Actions.class, RETURNS_SELF);
+  private final WebDriver webDriver = mock();
+  private final WebDriver.TargetLocator targetLocator = mock();
+
+  @BeforeEach
+  void setup() {
+    when(locator.findAndAssertElementIsEditable()).thenReturn(element);
+    when(locator.getWebElement()).thenReturn(element);
+    when(locator.driver()).thenReturn(driver);
+    when(driver.actions()).thenReturn(actions);
+    when(driver.getWebDriver()).thenReturn(webDriver);
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(targetLocator.activeElement()).thenReturn(element);
+  }
+
+  @Test
+  void typesWholeTextByASingleActionsRequest() {
+    command.execute(proxy, locator, new Object[]{text("Tere").withDelay(Duration.ZERO)});
+
+    InOrder inOrder = inOrder(element, actions);
+    inOrder.verify(element).sendKeys("T");
+    inOrder.verify(actions).keyDown("e");
+    inOrder.verify(actions).keyUp("e");
+    inOrder.verify(actions).keyDown("r");
+    inOrder.verify(actions).keyUp("r");
+    inOrder.verify(actions).perform();
+    verify(actions, never()).pause(Duration.ZERO);
+  }
+
+  @Test
+  void addsPauseBetweenCharacters() {
+    command.execute(proxy, locator, new Object[]{text("abc").withDelay(Duration.ofMillis(50))});
+
+    verify(element).sendKeys("a");
+    verify(actions, times(2)).pause(Duration.ofMillis(50));
+    verify(actions).perform();
+  }
+
+  @Test
+  void splitsLongTextIntoChunks() {
+    command.execute(proxy, locator, new Object[]{text("x".repeat(Type.CHUNK_SIZE * 2 + 1)).withDelay(Duration.ZERO)});
+
+    verify(element).sendKeys("x");
+    verify(actions, times(Type.CHUNK_SIZE * 2)).keyDown("x");
+    verify(actions, times(2)).perform();
+  }
+
+  @Test
+  void keepsSurrogatePairsTogether() {
+    command.execute(proxy, locator, new Object[]{text("a😀").clearFirst(false).withDelay(Duration.ZERO)});
+
+    verify(element).sendKeys("a");
+    verify(actions).keyDown("😀");
+    verifyNoInteractions(clear);
+  }
+
+  @Test
+  void typesCharByChar_ifBrowserDoesNotSupportActions() {
+    doThrow(new UnsupportedCommandException("actions")).when(actions).perform();
+
+    command.execute(proxy, locator, new Object[]{text("abc").withDelay(Duration.ZERO)});
+
+    InOrder inOrder = inOrder(element, actions);
+    inOrder.verify(element).sendKeys("a");
+    inOrder.verify(actions).perform();
+    inOrder.verify(element).sendKeys("b");
+    inOrder.verify(element).sendKeys("c");
+  }
+
+  @Test
+  void typesCharByChar_ifElementHasLostFocus() {
+    when(targetLocator.activeElement()).thenReturn(element, mock(WebElement.class));
+
+    command.execute(proxy, locator, new Object[]{text("x".repeat(Type.CHUNK_SIZE + 3)).withDelay(Duration.ZERO)});
+
+    verify(actions, times(1)).perform();
+    verify(actions, times(Type.CHUNK_SIZE)).keyDown("x");
+    verify(element, times(3)).sendKeys("x");
+  }
+
+  @Test
+  void doesNothingForEmptyText() {
+    command.execute(proxy, locator, new Object[]{text("").clearFirst(false)});
+
+    verifyNoInteractions(element, actions);
+  }
+}
@@ -0,0 +1,204 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.drivercommands.BrowserPool.Key;
+import com.codeborne.selenide.drivercommands.BrowserPool.PooledBrowser;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class BrowserPoolTest {
+  private final BrowserPool pool = new BrowserPool();
+  private final SelenideConfig config = new SelenideConfig().browserPoolSize(1);
+  private final List<WebDriver> launchedBrowsers = new CopyOnWriteArrayList<>();
+
+  @Test
+  void isApplicable_onlyIfPoolSizeIsSet_andProxyIsNotUsed() {
+    assertThat(pool.isApplicable(config, false)).isTrue();
+    assertThat(pool.isApplicable(config, true)).isFalse();
+    assertThat(pool.isApplicable(new SelenideConfig(), false)).isFalse();
+    assertThat(pool.isApplicable(new SelenideConfig().browserPoolSize(1).proxyEnabled(true), false)).isFalse();
+    assertThat(pool.isApplicable(new SelenideConfig().browserPoolSize(1).holdBrowserOpen(true), false)).isFalse();
+  }
+
+  @Test
+  void isApplicable_onlyForLocalChromiumBrowsers() {
+    assertThat(pool.isApplicable(new SelenideConfig().browserPoolSize(1).browser("edge"), false)).isTrue();
+    assertThat(pool.isApplicable(new SelenideConfig().browserPoolSize(1).browser("firefox"), false)).isFalse();
+    assertThat(pool.isApplicable(new SelenideConfig().browserPoolSize(1).remote("http://grid:4444/wd/hub"), false)).isFalse();
+  }
+
+  @Test
+  void launchesBrowsersInAdvance() throws InterruptedException {
+    PooledBrowser first = pool.checkout(config, this::launch);
+    assertThat(first.webDriver()).isSameAs(launchedBrowsers.get(0));
+
+    waitUntilLaunched(2);
+    PooledBrowser second = pool.checkout(config, this::launch);
+    assertThat(second.webDriver()).isSameAs(launchedBrowsers.get(1));
+  }
+
+  @Test
+  void browsersReturnedToPool_areReused() throws InterruptedException {
+    PooledBrowser browser = pool.checkout(config, this::launch);
+    waitUntilLaunched(2);
+    pool.lend(browser.webDriver(), browser);
+    pool.checkout(config, this::launch);
+    waitUntilLaunched(3);
+
+    assertThat(pool.giveBack(browser.webDriver(), 2)).isTrue();
+    verify(browser.webDriver(), never()).quit();
+    verify((HasCdp) browser.webDriver()).executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", "context1"));
+    assertThat(pool.size(config)).isEqualTo(2);
+
+    assertThat(pool.checkout(config, this::launch).webDriver()).isSameAs(launchedBrowsers.get(2));
+    PooledBrowser reused = pool.checkout(config, this::launch);
+    assertThat(reused.webDriver()).isSameAs(browser.webDriver());
+    assertThat(reused.browserContext()).isEqualTo("context2");
+  }
+
+  @Test
+  void closesBrowser_ifPoolIsFull() throws InterruptedException {
+    PooledBrowser browser = pool.checkout(config, this::launch);
+    waitUntilLaunched(2);
+    pool.lend(browser.webDriver(), browser);
+
+    assertThat(pool.giveBack(browser.webDriver(), 1)).isTrue();
+    verify(browser.webDriver()).quit();
+  }
+
+  @Test
+  void closesBrowser_ifFailedToResetIt() throws InterruptedException {
+    PooledBrowser browser = pool.checkout(config, this::launch);
+    waitUntilLaunched(2);
+    pool.lend(browser.webDriver(), browser);
+    pool.checkout(config, this::launch);
+    when(browser.webDriver().getWindowHandles()).thenThrow(new WebDriverException("Browser has crashed"));
+
+    assertThat(pool.giveBack(browser.webDriver(), 2)).isTrue();
+    verify(browser.webDriver()).quit();
+  }
+
+  @Test
+  void launchedBrowserGetsItsOwnBrowserContext() {
+    PooledBrowser browser = pool.checkout(config, this::launch);
+
+    assertThat(browser.browserContext()).isEqualTo("context1");
+    verify(browser.webDriver().switchTo().window("window1")).close();
+    verify(browser.webDriver().switchTo()).window("blank");
+  }
+
+  @Test
+  void disposesBrowserContextWithAllDataOfPreviousTest() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class).defaultAnswer(RETURNS_DEEP_STUBS));
+    HasCdp cdp = (HasCdp) webDriver;
+    File downloadsFolder = new File("build/downloads/123");
+    Key key = new Key(new SelenideConfig().browserSize("1280x800").browserPosition("10x20"));
+    when(cdp.executeCdpCommand("Target.getTargets", Map.of())).thenReturn(Map.of("targetInfos", List.of(
+      Map.of("type", "browser", "url", ""),
+      Map.of("type", "page", "url", "https://shop.example.com/cart", "browserContextId", "old"),
+      Map.of("type", "iframe", "url", "https://ads.example.com/", "browserContextId", "old")
+    )));
+    when(cdp.executeCdpCommand("Target.createBrowserContext", Map.of())).thenReturn(Map.of("browserContextId", "new"));
+    when(cdp.executeCdpCommand(eq("Target.createTarget"), anyMap())).thenReturn(Map.of("targetId", "blank"));
+    when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of("window1", "popup", "blank")));
+
+    PooledBrowser reset = BrowserPool.reset(new PooledBrowser(webDriver, downloadsFolder, key, "old"));
+
+    assertThat(reset).isEqualTo(new PooledBrowser(webDriver, downloadsFolder, key, "new"));
+    verify(cdp).executeCdpCommand("Browser.setDownloadBehavior", Map.of("behavior", "allow",
+      "browserContextId", "new", "downloadPath", downloadsFolder.getAbsolutePath()));
+    verify(cdp).executeCdpCommand("Target.createTarget", Map.of("url", "about:blank", "browserContextId", "new", "newWindow", true,
+      "width", 1280, "height", 800, "left", 10, "top", 20));
+    verify(webDriver.switchTo().window("window1")).close();
+    verify(webDriver.switchTo().window("popup")).close();
+    verify(webDriver.switchTo()).window("blank");
+    verify(cdp).executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", "old"));
+  }
+
+  @Test
+  void cannotResetBrowser_ifSomePageWasOpenedOutsideOfItsContext() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class).defaultAnswer(RETURNS_DEEP_STUBS));
+    HasCdp cdp = (HasCdp) webDriver;
+    when(cdp.executeCdpCommand("Target.getTargets", Map.of())).thenReturn(Map.of("targetInfos", List.of(
+      Map.of("type", "page", "url", "https://shop.example.com/cart", "browserContextId", "old"),
+      Map.of("type", "page", "url", "https://shop.example.com/login", "browserContextId", "default")
+    )));
+
+    assertThat(BrowserPool.reset(new PooledBrowser(webDriver, null, null, "old"))).isNull();
+    verify(cdp, never()).executeCdpCommand("Target.createBrowserContext", Map.of());
+  }
+
+  @Test
+  void cannotResetBrowsersWithoutCdp() {
+    WebDriver webDriver = mock();
+
+    assertThat(BrowserPool.reset(new PooledBrowser(webDriver, null, null, "context1"))).isNull();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void cannotResetBrowsersWithoutBrowserContext() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class));
+
+    assertThat(BrowserPool.reset(new PooledBrowser(webDriver, null))).isNull();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void dimension() {
+    assertThat(BrowserPool.dimension("1920x1080")).hasValueSatisfying(size -> assertThat(size).containsExactly(1920, 1080));
+    assertThat(BrowserPool.dimension("-10x0")).hasValueSatisfying(position -> assertThat(position).containsExactly(-10, 0));
+    assertThat(BrowserPool.dimension(null)).isEmpty();
+    assertThat(BrowserPool.dimension("maximized")).isEmpty();
+  }
+
+  @Test
+  void doesNotTakeBrowsersWhichAreNotFromPool() {
+    WebDriver webDriver = mock();
+
+    assertThat(pool.giveBack(webDriver, 1)).isFalse();
+    verify(webDriver, never()).quit();
+  }
+
+  private PooledBrowser launch(Config settings) {
+    assertThat(settings.browserPoolSize()).isEqualTo(1);
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class).defaultAnswer(RETURNS_DEEP_STUBS));
+    HasCdp cdp = (HasCdp) webDriver;
+    when(webDriver.getWindowHandles()).thenReturn(Set.of("window1"));
+    when(cdp.executeCdpCommand("Target.createBrowserContext", Map.of()))
+      .thenReturn(Map.of("browserContextId", "context1"), Map.of("browserContextId", "context2"));
+    when(cdp.executeCdpCommand(eq("Target.createTarget"), anyMap())).thenReturn(Map.of("targetId", "blank"));
+    when(cdp.executeCdpCommand("Target.getTargets", Map.of())).thenReturn(Map.of("targetInfos", List.of()));
+    launchedBrowsers.add(webDriver);
+    return new PooledBrowser(webDriver, null);
+  }
+
+  private void waitUntilLaunched(int count) throws InterruptedException {
+    for (int i = 0; i < 100 && (launchedBrowsers.size() < count || pool.size(config) < 1); i++) {
+      Thread.sleep(50);
+    }
+    assertThat(launchedBrowsers).hasSize(count);
+    assertThat(pool.size(config)).isEqualTo(1);
+  }
+}
@@ -10,7 +10,9 @@ import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
 import static com.codeborne.selenide.AuthenticationType.BASIC;
 import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
@@ -20,7 +22,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 final class NavigatorTest {
@@ -156,4 +160,36 @@ final class NavigatorTest {
       .hasMessage("config.proxyEnabled == false but config.fileDownload == PROXY. " +
                   "You need to enable proxy server to download file using PROXY mode.");
   }
+
+  @Test
+  void reopensBrowser_ifItHasBeenClosedMeanwhile() {
+    WebDriver newDriver = mock();
+    WebDriver.Navigation newNavigation = mock();
+    doReturn(newNavigation).when(newDriver).navigate();
+    doReturn(driver, newDriver).when(selenideDriver).getAndCheckWebDriver();
+    doThrow(new NoSuchSessionException("Session is gone")).when(navigation).to("https://some.com/login");
+
+    navigator.open(selenideDriver, "https://some.com/login");
+
+    verify(selenideDriver, times(2)).getAndCheckWebDriver();
+    verify(newNavigation).to("https://some.com/login");
+  }
+
+  @Test
+  void retriesOnlyOnce_ifBrowserHasBeenClosedMeanwhile() {
+    doThrow(new NoSuchSessionException("Session is gone")).when(navigation).to("https://some.com/login");
+
+    assertThatThrownBy(() -> navigator.open(selenideDriver, "https://some.com/login"))
+      .isInstanceOf(NoSuchSessionException.class);
+    verify(selenideDriver, times(2)).getAndCheckWebDriver();
+  }
+
+  @Test
+  void doesNotRetry_otherErrors() {
+    doThrow(new WebDriverException("Invalid url")).when(navigation).to("https://some.com/login");
+
+    assertThatThrownBy(() -> navigator.open(selenideDriver, "https://some.com/login"))
+      .isInstanceOf(WebDriverException.class);
+    verify(selenideDriver).getAndCheckWebDriver();
+  }
 }
@@ -0,0 +1,147 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.ActionabilityCheck.ClickViaJs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
+import static com.codeborne.selenide.CheckResult.Verdict.REJECT;
+import static com.codeborne.selenide.Condition.clickable;
+import static com.codeborne.selenide.Condition.editable;
+import static com.codeborne.selenide.Condition.interactable;
+import static com.codeborne.selenide.Condition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class ActionabilityCheckTest {
+  private final SelenideConfig config = new SelenideConfig().checkActionabilityViaJs(true);
+  private final WebDriver webDriver = mock(withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = mock();
+  private final WebElement element = mock();
+
+  @BeforeEach
+  void setUp() {
+    when(driver.config()).thenReturn(config);
+    when(driver.getWebDriver()).thenReturn(webDriver);
+    when(driver.supportsJavascript()).thenReturn(true);
+  }
+
+  @Test
+  void checksOnlyActionabilityConditions() {
+    assertThat(ActionabilityCheck.canCheck(driver, interactable)).isTrue();
+    assertThat(ActionabilityCheck.canCheck(driver, clickable)).isTrue();
+    assertThat(ActionabilityCheck.canCheck(driver, editable)).isTrue();
+    assertThat(ActionabilityCheck.canCheck(driver, visible)).isFalse();
+  }
+
+  @Test
+  void isDisabledByDefault() {
+    when(driver.config()).thenReturn(new SelenideConfig());
+    assertThat(ActionabilityCheck.canCheck(driver, clickable)).isFalse();
+  }
+
+  @Test
+  void isNotUsedForBrowsersWithoutJavaScript() {
+    when(driver.supportsJavascript()).thenReturn(false);
+    assertThat(ActionabilityCheck.canCheck(driver, clickable)).isFalse();
+  }
+
+  @Test
+  void checksConditionsAgainstStateFetchedByASingleJavaScriptCall() {
+    givenElementState(true, "1", true, null);
+
+    WebElement subject = ActionabilityCheck.prefetch(driver, element, null);
+
+    assertThat(clickable.check(driver, subject).verdict()).isEqualTo(ACCEPT);
+    assertThat(editable.check(driver, subject).verdict()).isEqualTo(ACCEPT);
+    assertThat(((WrapsElement) subject).getWrappedElement()).isSameAs(element);
+    verifyNoInteractions(element);
+  }
+
+  @Test
+  void rejectsElementWithPrefetchedState() {
+    givenElementState(true, "1", false, "true");
+
+    WebElement subject = ActionabilityCheck.prefetch(driver, element, null);
+
+    assertThat(interactable.check(driver, subject).verdict()).isEqualTo(ACCEPT);
+    assertThat(clickable.check(driver, subject).verdict()).isEqualTo(REJECT);
+    assertThat(editable.check(driver, subject).verdict()).isEqualTo(REJECT);
+  }
+
+  @Test
+  void delegatesOtherCallsToOriginalElement() {
+    givenElementState(false, "0", true, null);
+    when(element.getTagName()).thenReturn("button");
+    when(element.getCssValue("color")).thenReturn("red");
+
+    WebElement subject = ActionabilityCheck.prefetch(driver, element, null);
+
+    assertThat(subject.isDisplayed()).isFalse();
+    assertThat(subject.getCssValue("opacity")).isEqualTo("0");
+    assertThat(subject.getTagName()).isEqualTo("button");
+    assertThat(subject.getCssValue("color")).isEqualTo("red");
+    verify(element).getTagName();
+  }
+
+  @Test
+  void reportsIfElementHasBeenClicked() {
+    Map<String, Object> state = elementState(true, "1", true, null);
+    state.put("clicked", true);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any())).thenReturn(state);
+    ClickViaJs click = new ClickViaJs(0, 0, Map.of("altKey", false));
+
+    ActionabilityCheck.prefetch(driver, element, click);
+
+    assertThat(click.performed()).isTrue();
+  }
+
+  @Test
+  void fallsBackToOriginalElement_ifJavaScriptFailed() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any())).thenThrow(new WebDriverException("no atoms"));
+
+    assertThat(ActionabilityCheck.prefetch(driver, element, null)).isSameAs(element);
+  }
+
+  @Test
+  void rethrowsStaleElementException() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any()))
+      .thenThrow(new StaleElementReferenceException("gone"));
+
+    assertThatThrownBy(() -> ActionabilityCheck.prefetch(driver, element, null))
+      .isInstanceOf(StaleElementReferenceException.class);
+  }
+
+  private void givenElementState(boolean displayed, String opacity, boolean enabled, String readonly) {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any()))
+      .thenReturn(elementState(displayed, opacity, enabled, readonly));
+  }
+
+  private Map<String, Object> elementState(boolean displayed, String opacity, boolean enabled, String readonly) {
+    Map<String, Object> state = new HashMap<>();
+    state.put("displayed", displayed);
+    state.put("opacity", opacity);
+    state.put("enabled", enabled);
+    state.put("readonly", readonly);
+    state.put("clicked", false);
+    return state;
+  }
+}
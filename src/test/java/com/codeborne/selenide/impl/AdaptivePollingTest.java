@@ -0,0 +1,66 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class AdaptivePollingTest {
+  @Test
+  void delayDoublesAfterEveryCheck() {
+    PollingStrategy polling = new AdaptivePolling(10, 1000, 0);
+
+    assertThat(polling.delay(1, 200)).isEqualTo(10);
+    assertThat(polling.delay(2, 200)).isEqualTo(20);
+    assertThat(polling.delay(3, 200)).isEqualTo(40);
+    assertThat(polling.delay(7, 200)).isEqualTo(640);
+    assertThat(polling.delay(8, 200)).isEqualTo(1000);
+    assertThat(polling.delay(1_000_000, 200)).isEqualTo(1000);
+  }
+
+  @Test
+  void delayCanGrowUpToPollingInterval_ifItIsBiggerThanMaxDelay() {
+    PollingStrategy polling = new AdaptivePolling(10, 1000, 0);
+
+    assertThat(polling.delay(100, 3000)).isEqualTo(3000);
+  }
+
+  @Test
+  void delayIsRandomizedWithinJitter() {
+    PollingStrategy polling = new AdaptivePolling(100, 1000, 0.2);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(polling.delay(1, 200)).isBetween(80L, 120L);
+      assertThat(polling.delay(10, 200)).isBetween(800L, 1200L);
+    }
+  }
+
+  @Test
+  void checksOnceMoreAtDeadline() {
+    assertThat(PollingStrategy.adaptive().checkAtDeadline()).isTrue();
+    assertThat(PollingStrategy.fixed().checkAtDeadline()).isFalse();
+  }
+
+  @Test
+  void validatesParameters() {
+    assertThatThrownBy(() -> new AdaptivePolling(0, 1000, 0.1))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Invalid delays: first=0, max=1000");
+    assertThatThrownBy(() -> new AdaptivePolling(100, 10, 0.1))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Invalid delays: first=100, max=10");
+    assertThatThrownBy(() -> new AdaptivePolling(10, 1000, 1))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Jitter must be in range [0, 1), but was: 1.0");
+  }
+
+  @Test
+  void strategyByName() {
+    assertThat(PollingStrategy.valueOf("fixed")).isSameAs(PollingStrategy.fixed());
+    assertThat(PollingStrategy.valueOf("adaptive")).isInstanceOf(AdaptivePolling.class);
+    assertThatThrownBy(() -> PollingStrategy.valueOf("random"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown polling strategy: random (expected: fixed or adaptive)");
+  }
+}
@@ -0,0 +1,80 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ArtifactWriterTest {
+  private final ArtifactWriter writer = new ArtifactWriter(1, 1);
+  private final File file = new File("build/reports/tests/screenshot.png");
+
+  @Test
+  void writesFilesInBackground() throws InterruptedException {
+    CountDownLatch canWrite = new CountDownLatch(1);
+    CompletableFuture<File> written = writer.submit(file, () -> await(canWrite));
+
+    assertThat(written).isNotDone();
+    assertThat(writer.completion(file)).isSameAs(written);
+
+    canWrite.countDown();
+    assertThat(writer.flush(Duration.ofSeconds(5))).isTrue();
+    assertThat(written).isCompletedWithValue(file);
+    assertThat(writer.completion(file)).isDone();
+  }
+
+  @Test
+  void flushReturnsFalse_ifFilesHaveNotBeenWrittenInTime() {
+    CountDownLatch canWrite = new CountDownLatch(1);
+    writer.submit(file, () -> await(canWrite));
+
+    assertThat(writer.flush(Duration.ofMillis(10))).isFalse();
+    canWrite.countDown();
+    assertThat(writer.flush(Duration.ofSeconds(5))).isTrue();
+  }
+
+  @Test
+  void writesInCallingThread_ifQueueIsFull() {
+    CountDownLatch canWrite = new CountDownLatch(1);
+    writer.submit(new File("1.png"), () -> await(canWrite));
+    writer.submit(new File("2.png"), () -> {});
+
+    AtomicReference<Thread> writingThread = new AtomicReference<>();
+    writer.submit(new File("3.png"), () -> writingThread.set(Thread.currentThread()));
+
+    assertThat(writingThread.get()).isSameAs(Thread.currentThread());
+    canWrite.countDown();
+    assertThat(writer.flush(Duration.ofSeconds(5))).isTrue();
+  }
+
+  @Test
+  void failedWriteCompletesFutureExceptionally() {
+    CompletableFuture<File> written = writer.submit(file, () -> {
+      throw new IllegalStateException("Disk is full");
+    });
+
+    assertThat(writer.flush(Duration.ofSeconds(5))).isTrue();
+    assertThat(written).isCompletedExceptionally();
+  }
+
+  @Test
+  void completionOfUnknownFile() {
+    assertThat(writer.completion(new File("unknown.png"))).isDone();
+    assertThat(writer.completion(null)).isDone();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, SECONDS)).isTrue();
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
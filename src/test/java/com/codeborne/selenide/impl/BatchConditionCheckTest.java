@@ -0,0 +1,114 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.CheckResult;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.WebElementCondition;
+import com.codeborne.selenide.conditions.Readonly;
+import com.codeborne.selenide.conditions.Visible;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.CheckResult.Verdict.ACCEPT;
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.disabled;
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.hidden;
+import static com.codeborne.selenide.Condition.href;
+import static com.codeborne.selenide.Condition.not;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class BatchConditionCheckTest {
+  private final WebDriver webDriver = mock(withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = mock();
+  private final List<WebElement> elements = List.of(mock(), mock());
+
+  @BeforeEach
+  void setUp() {
+    when(driver.getWebDriver()).thenReturn(webDriver);
+    when(driver.supportsJavascript()).thenReturn(true);
+  }
+
+  @Test
+  void checksAllElementsWithSingleJavaScriptCall() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any())).thenReturn(List.of(false, true));
+
+    assertThat(BatchConditionCheck.check(driver, elements, cssClass("active"))).containsExactly(false, true);
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any());
+    verifyNoInteractions(elements.get(0), elements.get(1));
+  }
+
+  @Test
+  void conditionsDescribeThemselvesAsJavaScriptPredicates() {
+    assertThat(visible.jsPredicate()).isEqualTo(List.of("visible"));
+    assertThat(hidden.jsPredicate()).isEqualTo(List.of("not", List.of("visible")));
+    assertThat(disabled.jsPredicate()).isEqualTo(List.of("not", List.of("enabled")));
+    assertThat(not(attribute("href", "/")).jsPredicate()).isEqualTo(List.of("not", List.of("attributeValue", "href", "/")));
+    assertThat(and("active link", visible, cssClass("active")).jsPredicate())
+      .isEqualTo(List.of("and", List.of("visible"), List.of("cssClass", "active")));
+    assertThat(visible.or(attribute("open")).jsPredicate())
+      .isEqualTo(List.of("or", List.of("visible"), List.of("attribute", "open")));
+    assertThat(visible.because("it's important").jsPredicate()).isEqualTo(List.of("visible"));
+  }
+
+  @Test
+  void someConditionsCanBeCheckedOnlyOneByOne() {
+    assertThat(text("Hello").jsPredicate()).isNull();
+    assertThat(href("/about").jsPredicate()).isNull();
+    assertThat(and("visible text", visible, exactText("Hello")).jsPredicate()).isNull();
+
+    assertThat(BatchConditionCheck.check(driver, elements, text("Hello"))).isNull();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void subclassesOverridingCheckAreCheckedOneByOne() {
+    WebElementCondition visibleAndNotTransparent = new Visible() {
+      @Override
+      public CheckResult check(Driver driver, WebElement element) {
+        return new CheckResult(super.check(driver, element).verdict() == ACCEPT && !"0".equals(element.getCssValue("opacity")), null);
+      }
+    };
+
+    assertThat(visibleAndNotTransparent.jsPredicate()).isNull();
+    assertThat(new Readonly().jsPredicate()).isEqualTo(List.of("attribute", "readonly"));
+    assertThat(BatchConditionCheck.check(driver, elements, visibleAndNotTransparent)).isNull();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void returnsNull_ifBrowserDoesNotSupportJavaScript() {
+    when(driver.supportsJavascript()).thenReturn(false);
+
+    assertThat(BatchConditionCheck.check(driver, elements, visible)).isNull();
+  }
+
+  @Test
+  void returnsNull_ifJavaScriptFailed() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any())).thenThrow(new JavascriptException("CSP"));
+
+    assertThat(BatchConditionCheck.check(driver, elements, visible)).isNull();
+  }
+
+  @Test
+  void emptyCollection() {
+    assertThat(BatchConditionCheck.check(driver, List.of(), visible)).isEmpty();
+    verifyNoInteractions(webDriver);
+  }
+}
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.drivercommands.BrowserHealthChecker;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.NoSuchSessionException;
@@ -12,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 final class BrowserHealthCheckerTest {
   private final WebDriver webdriver = mock();
@@ -51,4 +54,31 @@ final class BrowserHealthCheckerTest {
 
     assertThat(checker.isBrowserStillOpen(webdriver)).isTrue();
   }
+
+  @Test
+  void skipsCheck_ifBrowserHasBeenUsedRecently() {
+    BrowserHealthChecker checker = new BrowserHealthChecker(new SelenideConfig().browserHealthCheckInterval(60_000));
+    BrowserHealthChecker.markAlive(webdriver);
+
+    assertThat(checker.isBrowserStillOpen(webdriver)).isTrue();
+    verify(webdriver, never()).getTitle();
+  }
+
+  @Test
+  void checksBrowser_ifItHasNotBeenUsedRecently() {
+    BrowserHealthChecker checker = new BrowserHealthChecker(new SelenideConfig().browserHealthCheckInterval(60_000));
+    BrowserHealthChecker.markAlive(webdriver);
+    BrowserHealthChecker.forget(webdriver);
+    doThrow(new NoSuchSessionException("oops")).when(webdriver).getTitle();
+
+    assertThat(checker.isBrowserStillOpen(webdriver)).isFalse();
+  }
+
+  @Test
+  void alwaysChecksBrowser_byDefault() {
+    BrowserHealthChecker.markAlive(webdriver);
+    doThrow(new NoSuchSessionException("oops")).when(webdriver).getTitle();
+
+    assertThat(checker.isBrowserStillOpen(webdriver)).isFalse();
+  }
 }
@@ -0,0 +1,122 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.CollectionCondition.sizeGreaterThan;
+import static com.codeborne.selenide.CollectionCondition.texts;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class BrowserSideWaitTest {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final JavascriptExecutor js = (JavascriptExecutor) webDriver;
+  private final Driver driver = new DriverStub(new SelenideConfig().waitViaJs(true), webDriver);
+  private final ElementFinder element = new ElementFinder(driver, null, By.cssSelector("#menu"), 0, false);
+  private final Object[] shouldBeVisible = {new Object[]{visible}};
+
+  @Test
+  void waitsForElementConditionInBrowser() {
+    when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), any())).thenReturn("changed");
+
+    assertThat(BrowserSideWait.waitFor(element, "shouldBe", new Object[]{visible, cssClass("open")}, 4000)).isTrue();
+
+    verify(js).executeAsyncScript(anyString(), isNull(),
+      eq(List.of(Map.of("using", "css selector", "value", "#menu", "index", 0))),
+      eq(List.of("and", List.of("visible"), List.of("cssClass", "open"))),
+      eq(false), eq(2000L));
+  }
+
+  @Test
+  void waitsForNegatedCondition() {
+    when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), any())).thenReturn("timeout");
+
+    assertThat(BrowserSideWait.waitFor(element, "shouldNotBe", new Object[]{visible}, 300)).isTrue();
+
+    verify(js).executeAsyncScript(anyString(), isNull(), any(), eq(List.of("not", List.of("visible"))), eq(true), eq(300L));
+  }
+
+  @Test
+  void waitsForCollectionSizeInBrowser() {
+    BySelectorCollection collection = new BySelectorCollection(driver, element, By.tagName("li"));
+    when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), any())).thenReturn("changed");
+
+    assertThat(BrowserSideWait.waitFor(collection, sizeGreaterThan(2), 4000)).isTrue();
+
+    verify(js).executeAsyncScript(anyString(), isNull(), any(), eq(List.of("size", ">", 2)), eq(false), eq(2000L));
+  }
+
+  @Test
+  void doesNotWait_ifBrowserConsidersConditionAlreadyMet() {
+    when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), any())).thenReturn("satisfied");
+
+    assertThat(BrowserSideWait.waitFor(element, "should", shouldBeVisible, 4000)).isFalse();
+  }
+
+  @Test
+  void doesNotWait_ifBrowserFailedToWait() {
+    when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), any())).thenThrow(new ScriptTimeoutException("timeout"));
+
+    assertThat(BrowserSideWait.waitFor(element, "should", shouldBeVisible, 4000)).isFalse();
+  }
+
+  @Test
+  void waitsOnlyForConditionsWithJavaScriptForm() {
+    BySelectorCollection collection = new BySelectorCollection(driver, null, By.tagName("li"));
+
+    assertThat(BrowserSideWait.waitFor(element, "shouldHave", new Object[]{visible, text("Hello")}, 4000)).isFalse();
+    assertThat(BrowserSideWait.waitFor(collection, texts("Hello"), 4000)).isFalse();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void waitsOnlyForShouldMethods() {
+    assertThat(BrowserSideWait.waitFor(element, "click", null, 4000)).isFalse();
+    assertThat(BrowserSideWait.waitFor(element, "getText", null, 4000)).isFalse();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void isDisabledByDefault() {
+    ElementFinder element = new ElementFinder(new DriverStub(new SelenideConfig(), webDriver), null, By.id("menu"), 0, false);
+
+    assertThat(BrowserSideWait.waitFor(element, "should", shouldBeVisible, 4000)).isFalse();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void isDisabledInSizzleMode() {
+    Driver sizzleDriver = new DriverStub(new SelenideConfig().waitViaJs(true).selectorMode(Sizzle), webDriver);
+    ElementFinder element = new ElementFinder(sizzleDriver, null, By.id("menu"), 0, false);
+
+    assertThat(BrowserSideWait.waitFor(element, "should", shouldBeVisible, 4000)).isFalse();
+    verifyNoInteractions(webDriver);
+  }
+
+  @Test
+  void doesNotWait_ifTimeoutIsOver() {
+    assertThat(BrowserSideWait.waitFor(element, "should", shouldBeVisible, 0)).isFalse();
+    verifyNoInteractions(webDriver);
+  }
+}
@@ -40,6 +40,7 @@ final class CollectionElementByConditionTest {
     WebElement mockedWebElement2 = mock();
 
     List<WebElement> listOfMockedElements = asList(mockedWebElement1, mockedWebElement2);
+    when(collection.driver()).thenReturn(driver);
     when(collection.getElements()).thenReturn(listOfMockedElements);
     when(mockedWebElement2.isDisplayed()).thenReturn(true);
     CollectionElementByCondition collectionElement = new CollectionElementByCondition(collection, visible);
@@ -4,6 +4,7 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.impl.DownloadFileWithHttpRequest.Resource;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.core5.http.Header;
@@ -14,13 +15,20 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import static com.codeborne.selenide.files.FileFilters.none;
 import static com.codeborne.selenide.impl.DownloadFileWithHttpRequest.parseUrl;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.hc.client5.http.protocol.HttpClientContext.COOKIE_STORE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -134,6 +142,41 @@ final class DownloadFileWithHttpRequestTest {
     );
   }
 
+  @Test
+  void downloadsMultipleFilesInParallel() throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/files/", exchange -> {
+      byte[] body = ("content of " + exchange.getRequestURI().getPath()).getBytes(UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    ExecutorService serverThreads = newFixedThreadPool(4);
+    server.setExecutor(serverThreads);
+    server.start();
+    try {
+      Driver driver = mock();
+      when(driver.config()).thenReturn(new SelenideConfig().downloadsFolder("build/downloads"));
+      String baseUrl = "http://localhost:" + server.getAddress().getPort();
+      List<URI> urls = List.of(URI.create(baseUrl + "/files/a.txt"), URI.create(baseUrl + "/files/b.txt"),
+        URI.create(baseUrl + "/files/c.txt"));
+
+      List<File> files = new DownloadFileWithHttpRequest().downloadAll(driver, urls, 4000, none());
+
+      assertThat(files).extracting(File::getName).containsExactly("a.txt", "b.txt", "c.txt");
+      assertThat(files.get(2)).hasContent("content of /files/c.txt");
+    }
+    finally {
+      server.stop(0);
+      serverThreads.shutdown();
+    }
+  }
+
+  @Test
+  void downloadAll_withoutUrls() {
+    assertThat(download.downloadAll(mock(), List.of(), 4000, none())).isEmpty();
+  }
+
   private HttpResponse responseWithHeaders(Header... headers) {
     HttpResponse response = mock();
     when(response.getHeaders()).thenReturn(headers);
@@ -1,10 +1,12 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.PollingStrategy;
+
 import java.util.function.Supplier;
 
 public class DummyWaiter extends Waiter {
   @Override
-  public void wait(long timeout, long pollingInterval, Supplier<Boolean> condition) {
+  public void wait(long timeout, long pollingInterval, PollingStrategy pollingStrategy, Supplier<Boolean> condition) {
     condition.get();
   }
 }
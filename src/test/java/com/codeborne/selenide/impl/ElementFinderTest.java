@@ -1,11 +1,19 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 final class ElementFinderTest {
   private final Driver driver = mock();
@@ -36,4 +44,68 @@ final class ElementFinderTest {
     assertThat(new ElementFinder(driver, parent, By.xpath("//*[@id='app']"), 3, false))
       .hasToString("{By.xpath: //table/By.xpath: //*[@id='app'][3]}");
   }
+
+  @Test
+  void resolvesParentElementEveryTime_byDefault() {
+    WebDriver webDriver = mock();
+    WebElement table = mock();
+    WebElement row = mock();
+    when(webDriver.findElement(By.tagName("table"))).thenReturn(table);
+    when(table.findElement(By.cssSelector(".row"))).thenReturn(row);
+    Driver driver = new DriverStub(new SelenideConfig(), webDriver);
+
+    ElementFinder parent = new ElementFinder(driver, null, By.tagName("table"), 0, false);
+    ElementFinder child = new ElementFinder(driver, parent, By.cssSelector(".row"), 0, false);
+
+    assertThat(child.getWebElement()).isSameAs(row);
+    assertThat(child.getWebElement()).isSameAs(row);
+    verify(webDriver, times(2)).findElement(By.tagName("table"));
+  }
+
+  @Test
+  void reusesParentElement_ifCacheParentElementsEnabled() {
+    WebDriver webDriver = mock();
+    WebElement table = mock();
+    WebElement tbody = mock();
+    WebElement row = mock();
+    when(webDriver.findElement(By.tagName("table"))).thenReturn(table);
+    when(table.findElement(By.tagName("tbody"))).thenReturn(tbody);
+    when(tbody.findElement(By.cssSelector(".row"))).thenReturn(row);
+    Driver driver = new DriverStub(new SelenideConfig().cacheParentElements(true), webDriver);
+
+    ElementFinder grandParent = new ElementFinder(driver, null, By.tagName("table"), 0, false);
+    ElementFinder parent = new ElementFinder(driver, grandParent, By.tagName("tbody"), 0, false);
+    ElementFinder child = new ElementFinder(driver, parent, By.cssSelector(".row"), 0, false);
+
+    assertThat(child.getWebElement()).isSameAs(row);
+    assertThat(child.getWebElement()).isSameAs(row);
+    assertThat(child.getWebElement()).isSameAs(row);
+    verify(webDriver).findElement(By.tagName("table"));
+    verify(table).findElement(By.tagName("tbody"));
+    verify(tbody, times(3)).findElement(By.cssSelector(".row"));
+  }
+
+  @Test
+  void reResolvesStaleParentElement_fromNearestValidAncestor() {
+    WebDriver webDriver = mock();
+    WebElement table = mock();
+    WebElement staleTbody = mock();
+    WebElement freshTbody = mock();
+    WebElement row = mock();
+    when(webDriver.findElement(By.tagName("table"))).thenReturn(table);
+    when(table.findElement(By.tagName("tbody"))).thenReturn(staleTbody, freshTbody);
+    when(staleTbody.findElement(By.cssSelector(".row"))).thenReturn(row).thenThrow(new StaleElementReferenceException("gone"));
+    when(freshTbody.findElement(By.cssSelector(".row"))).thenReturn(row);
+    Driver driver = new DriverStub(new SelenideConfig().cacheParentElements(true), webDriver);
+
+    ElementFinder grandParent = new ElementFinder(driver, null, By.tagName("table"), 0, false);
+    ElementFinder parent = new ElementFinder(driver, grandParent, By.tagName("tbody"), 0, false);
+    ElementFinder child = new ElementFinder(driver, parent, By.cssSelector(".row"), 0, false);
+
+    assertThat(child.getWebElement()).isSameAs(row);
+    assertThat(child.getWebElement()).isSameAs(row);
+    verify(webDriver).findElement(By.tagName("table"));
+    verify(table, times(2)).findElement(By.tagName("tbody"));
+    verify(freshTbody).findElement(By.cssSelector(".row"));
+  }
 }
@@ -0,0 +1,106 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebElementCondition;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class ElementMethodTest {
+  @Test
+  void classifiesMethodOnlyOnce() throws NoSuchMethodException {
+    Method method = SelenideElement.class.getMethod("shouldBe", WebElementCondition[].class);
+
+    ElementMethod elementMethod = ElementMethod.of(method);
+
+    assertThat(ElementMethod.of(method)).isSameAs(elementMethod);
+    assertThat(elementMethod.name).isEqualTo("shouldBe");
+    assertThat(elementMethod.selenideElementMethod).isTrue();
+    assertThat(elementMethod.softAssertion).isTrue();
+    assertThat(elementMethod.skipLogging).isFalse();
+  }
+
+  @Test
+  void methodsWithoutLogging() throws NoSuchMethodException {
+    ElementMethod find = ElementMethod.of(SelenideElement.class.getMethod("find", String.class));
+
+    assertThat(find.skipLogging).isTrue();
+    assertThat(find.softAssertion).isFalse();
+  }
+
+  @Test
+  void invokesWebElementMethod() throws Exception {
+    WebElement webElement = mock();
+    WebElement child = mock();
+    when(webElement.findElement(By.id("child"))).thenReturn(child);
+    Method method = WebElement.class.getMethod("findElement", By.class);
+
+    ElementMethod elementMethod = ElementMethod.of(method);
+
+    assertThat(elementMethod.selenideElementMethod).isFalse();
+    assertThat(elementMethod.invoke(method, webElement, new Object[]{By.id("child")})).isSameAs(child);
+  }
+
+  @Test
+  void invokesWebElementMethodWithoutArguments() throws Exception {
+    WebElement webElement = mock();
+    Method method = WebElement.class.getMethod("click");
+
+    assertThat(ElementMethod.of(method).invoke(method, webElement, null)).isNull();
+    verify(webElement).click();
+  }
+
+  @Test
+  void wrapsExceptionsLikeReflection() throws Exception {
+    WebElement webElement = mock();
+    StaleElementReferenceException error = new StaleElementReferenceException("gone");
+    doThrow(error).when(webElement).click();
+    Method method = WebElement.class.getMethod("click");
+
+    assertThatThrownBy(() -> ElementMethod.of(method).invoke(method, webElement, null))
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCause(error);
+  }
+
+  @Test
+  void wrapsClassCastExceptionThrownByMethodItself() throws Exception {
+    WebElement webElement = mock();
+    ClassCastException error = new ClassCastException("thrown by webdriver");
+    doThrow(error).when(webElement).click();
+    Method method = WebElement.class.getMethod("click");
+
+    assertThatThrownBy(() -> ElementMethod.of(method).invoke(method, webElement, null))
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCause(error);
+  }
+
+  @Test
+  void doesNotWrapWrongTarget() throws Exception {
+    Method method = WebElement.class.getMethod("click");
+
+    assertThatThrownBy(() -> ElementMethod.of(method).invoke(method, "not a web element", null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Cannot call org.openqa.selenium.WebElement.click on java.lang.String");
+  }
+
+  @Test
+  void doesNotWrapWrongNumberOfArguments() throws Exception {
+    WebElement webElement = mock();
+    Method method = WebElement.class.getMethod("findElement", By.class);
+
+    assertThatThrownBy(() -> ElementMethod.of(method).invoke(method, webElement, null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Method org.openqa.selenium.WebElement.findElement expects 1 arguments, but received: 0");
+  }
+}
@@ -1,15 +1,23 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.DriverStub;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 final class FilteringCollectionTest {
   @Test
@@ -21,6 +29,7 @@ final class FilteringCollectionTest {
     when(mockedWebElement2.isDisplayed()).thenReturn(true);
 
     CollectionSource mockedCollection = mock();
+    when(mockedCollection.driver()).thenReturn(new DriverStub());
     when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2));
     FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, Condition.visible);
 
@@ -31,6 +40,27 @@ final class FilteringCollectionTest {
       .isEqualTo(mockedWebElement2);
   }
 
+  @Test
+  void checksAllElementsWithSingleJavaScriptCall() {
+    WebElement mockedWebElement1 = mock();
+    WebElement mockedWebElement2 = mock();
+    WebElement mockedWebElement3 = mock();
+    JavascriptExecutor webDriver = mock(withSettings().extraInterfaces(WebDriver.class));
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(asList(true, false, true));
+
+    CollectionSource mockedCollection = mock();
+    when(mockedCollection.driver()).thenReturn(new DriverStub((WebDriver) webDriver));
+    when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2, mockedWebElement3));
+    FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, Condition.visible);
+
+    assertThat(filteringCollection.getElements()).containsExactly(mockedWebElement1, mockedWebElement3);
+    assertThat(filteringCollection.getElement(1)).isSameAs(mockedWebElement3);
+    assertThatThrownBy(() -> filteringCollection.getElement(2))
+      .isInstanceOf(IndexOutOfBoundsException.class)
+      .hasMessage("Index: 2");
+    verifyNoInteractions(mockedWebElement1, mockedWebElement2, mockedWebElement3);
+  }
+
   @Test
   void description() {
     CollectionSource mockedCollection = mock();
@@ -0,0 +1,60 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class PinnedScriptTest {
+  private final JavascriptExecutor executor = mock();
+  private final PinnedScript script = new PinnedScript("big.js", "(function(a) {return a + 1})(arguments[0])");
+
+  @Test
+  void callsInstalledScriptByKey() {
+    when(executor.executeScript(startsWith("return window.__selenide && window.__selenide['big.js@"), eq(1))).thenReturn(2L);
+
+    assertThat(script.execute(executor, 1)).isEqualTo(2L);
+    verify(executor, never()).executeScript(contains("return a + 1"), eq(1));
+  }
+
+  @Test
+  void installsScriptIfItIsNotInstalledYet() {
+    when(executor.executeScript(startsWith("return window.__selenide"), eq(1))).thenReturn("selenide:script-not-installed");
+    when(executor.executeScript(startsWith("try {"), eq(1))).thenReturn(2L);
+
+    assertThat(script.execute(executor, 1)).isEqualTo(2L);
+    verify(executor).executeScript(contains("return a + 1"), eq(1));
+  }
+
+  @Test
+  void sendsWholeScript_ifPageDoesNotAllowInstallingScripts() {
+    when(executor.executeScript(startsWith("return window.__selenide"), eq(1))).thenReturn("selenide:script-not-installed");
+    when(executor.executeScript(startsWith("try {"), eq(1))).thenReturn("selenide:script-not-installed");
+    when(executor.executeScript("return (function(a) {return a + 1})(arguments[0])", 1)).thenReturn(2L);
+
+    assertThat(script.execute(executor, 1)).isEqualTo(2L);
+    assertThat(script.execute(executor, 1)).isEqualTo(2L);
+    verify(executor, times(1)).executeScript(startsWith("try {"), eq(1));
+    verify(executor, times(2)).executeScript("return (function(a) {return a + 1})(arguments[0])", 1);
+  }
+
+  @Test
+  void installsAndCallsAsynchronousScript() {
+    when(executor.executeAsyncScript(startsWith("if (window.__selenide && window.__selenide['big.js@"), eq(1)))
+      .thenReturn("selenide:script-not-installed");
+    when(executor.executeAsyncScript(startsWith("try {"), eq(1))).thenReturn(2L);
+
+    assertThat(script.executeAsync(executor, 1)).isEqualTo(2L);
+    verify(executor).executeAsyncScript(contains("return a + 1"), eq(1));
+    verify(executor, never()).executeScript(any(), any());
+  }
+}
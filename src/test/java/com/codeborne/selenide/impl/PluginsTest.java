@@ -2,7 +2,14 @@ package com.codeborne.selenide.impl;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import static com.codeborne.selenide.impl.Plugins.inject;
+import static java.util.Collections.nCopies;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.assertj.core.api.Assertions.assertThat;
 
 final class PluginsTest {
@@ -11,4 +18,21 @@ final class PluginsTest {
     assertThat(inject(ElementDescriber.class)).isInstanceOf(SelenideElementDescriber.class);
     assertThat(inject(Photographer.class)).isInstanceOf(WebdriverPhotographer.class);
   }
+
+  @Test
+  void allThreadsGetTheSameInstance() throws Exception {
+    ExecutorService executor = newFixedThreadPool(8);
+    try {
+      Callable<PageSourceExtractor> task = () -> inject(PageSourceExtractor.class);
+      List<Future<PageSourceExtractor>> results = executor.invokeAll(nCopies(32, task));
+
+      PageSourceExtractor expected = inject(PageSourceExtractor.class);
+      for (Future<PageSourceExtractor> result : results) {
+        assertThat(result.get()).isSameAs(expected);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
 }
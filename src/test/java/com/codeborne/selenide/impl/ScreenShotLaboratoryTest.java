@@ -334,6 +334,18 @@ final class ScreenShotLaboratoryTest {
     verify(webDriver, never()).getScreenshotAs(any());
   }
 
+  @Test
+  void savesScreenshotInBackground_ifAsyncScreenshotsEnabled() {
+    config.screenshots(true).asyncScreenshots(true);
+    Screenshot screenshot = screenshots.takeScreenshot(driver, true, false);
+
+    assertThat(screenshots.flush()).isTrue();
+    assertThat(screenshot.saved()).isDone();
+    File image = screenshots.getLastThreadScreenshot().orElseThrow();
+    assertThat(image).hasContent("some png source");
+    verify(attachmentHandler).attach(image);
+  }
+
   @Test
   void screenshotAddedToThreadScreenshots() {
     config.screenshots(true);
@@ -0,0 +1,78 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ScreenshotHistoryTest {
+  private final ScreenshotHistory history = new ScreenshotHistory(3);
+
+  @Test
+  void evictsOldestScreenshots() {
+    List<Screenshot> screenshots = screenshots(5);
+    screenshots.forEach(history::add);
+
+    assertThat(history.all()).containsExactlyElementsOf(screenshots.subList(2, 5));
+    assertThat(history.thread()).containsExactlyElementsOf(screenshots.subList(2, 5));
+    assertThat(history.last()).isSameAs(screenshots.get(4));
+    assertThat(history.lastOfThread()).contains(screenshots.get(4));
+  }
+
+  @Test
+  void contextHistory() {
+    List<Screenshot> screenshots = screenshots(3);
+    history.add(screenshots.get(0));
+
+    history.startContext();
+    history.add(screenshots.get(1));
+    history.add(screenshots.get(2));
+    assertThat(history.context()).containsExactly(screenshots.get(1), screenshots.get(2));
+    assertThat(history.lastOfContext()).contains(screenshots.get(2));
+
+    assertThat(history.finishContext()).containsExactly(screenshots.get(1), screenshots.get(2));
+    assertThat(history.context()).isEmpty();
+    assertThat(history.lastOfContext()).isEmpty();
+    assertThat(history.finishContext()).isNull();
+  }
+
+  @Test
+  void threadHistoryIsNotSharedBetweenThreads() throws InterruptedException {
+    List<Screenshot> screenshots = screenshots(2);
+    history.add(screenshots.get(0));
+
+    AtomicReference<Optional<Screenshot>> lastOfAnotherThread = new AtomicReference<>();
+    Thread thread = new Thread(() -> {
+      history.add(screenshots.get(1));
+      lastOfAnotherThread.set(history.lastOfThread());
+    });
+    thread.start();
+    thread.join();
+
+    assertThat(lastOfAnotherThread.get()).contains(screenshots.get(1));
+    assertThat(history.thread()).containsExactly(screenshots.get(0));
+    assertThat(history.all()).containsExactly(screenshots.get(0), screenshots.get(1));
+    assertThat(history.last()).isSameAs(screenshots.get(1));
+  }
+
+  @Test
+  void capacityShouldBePositive() {
+    assertThatThrownBy(() -> new ScreenshotHistory(0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Screenshots history capacity must be positive, but was: 0");
+  }
+
+  private static List<Screenshot> screenshots(int count) {
+    List<Screenshot> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(new Screenshot(new File("screenshot" + i + ".png"), "screenshot" + i + ".png", null));
+    }
+    return result;
+  }
+}
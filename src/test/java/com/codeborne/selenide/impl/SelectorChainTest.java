@@ -0,0 +1,103 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.SelectorMode.JS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class SelectorChainTest {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(new SelenideConfig().selectorMode(JS), webDriver);
+
+  @Test
+  void compilesChainOfCssAndXpathSelectors() {
+    ElementFinder grid = new ElementFinder(driver, null, By.id("grid"), 0, false);
+    ElementFinder row = new ElementFinder(driver, grid, By.xpath(".//tr"), 2, false);
+
+    assertThat(SelectorChain.compile(row, By.cssSelector("td"), 1)).isPresent();
+    assertThat(SelectorChain.compile(row, By.tagName("td"))).isPresent();
+  }
+
+  @Test
+  void doesNotCompileSingleSelector() {
+    assertThat(SelectorChain.compile(null, By.cssSelector("td"), 0)).isEmpty();
+    assertThat(SelectorChain.compile(null, By.cssSelector("td"))).isEmpty();
+    assertThat(SelectorChain.compile(null, By.cssSelector("td"), 3)).isPresent();
+  }
+
+  @Test
+  void doesNotCompileUnsupportedSelectors() {
+    ElementFinder grid = new ElementFinder(driver, null, By.id("grid"), 0, false);
+
+    assertThat(SelectorChain.compile(grid, By.linkText("Next"), 0)).isEmpty();
+    assertThat(SelectorChain.compile(grid, By.xpath("/html/body"), 0)).isEmpty();
+  }
+
+  @Test
+  void doesNotCompileChainInsideShadowRoot() {
+    ElementFinder host = new ElementFinder(driver, null, By.id("host"), 0, true);
+
+    assertThat(SelectorChain.compile(host, By.cssSelector("button"), 0)).isEmpty();
+  }
+
+  @Test
+  void resolvesWholeChainWithSingleJavaScriptCall() {
+    WebElement cell = mock();
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), isNull(), any())).thenReturn(cell);
+    ElementFinder grid = new ElementFinder(driver, null, By.id("grid"), 0, false);
+    ElementFinder row = new ElementFinder(driver, grid, By.cssSelector("tr"), 2, false);
+
+    assertThat(SelectorChain.compile(row, By.cssSelector("td"), 1).orElseThrow().findElement(driver)).isSameAs(cell);
+
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), isNull(), eq(List.of(
+      Map.of("using", "css selector", "value", "#grid", "index", 0),
+      Map.of("using", "css selector", "value", "tr", "index", 2),
+      Map.of("using", "css selector", "value", "td", "index", 1)
+    )));
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  void reportsWhichSelectorFailed() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), isNull(), any())).thenReturn(1L);
+    ElementFinder grid = new ElementFinder(driver, null, By.id("grid"), 0, false);
+
+    assertThatThrownBy(() -> SelectorChain.compile(grid, By.cssSelector("tr"), 0).orElseThrow().findElement(driver))
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("Cannot locate an element using By.cssSelector: tr");
+  }
+
+  @Test
+  void fetchesOnlyRequestedSliceOfElements() {
+    List<WebElement> rows = List.of(mock(), mock());
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), isNull(), any(), any(), any())).thenReturn(rows);
+
+    assertThat(SelectorChain.compile(null, By.cssSelector("tr"))).isEmpty();
+    assertThat(SelectorChain.compileSlice(null, By.cssSelector("tr")).orElseThrow().findElements(driver, 100, 2)).isSameAs(rows);
+
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), isNull(), eq(List.of(
+      Map.of("using", "css selector", "value", "tr", "index", -1)
+    )), eq(100), eq(2));
+  }
+}
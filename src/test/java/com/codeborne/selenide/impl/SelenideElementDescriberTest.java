@@ -1,25 +1,35 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementShould;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Mocks.mockWebElement;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 final class SelenideElementDescriberTest {
   private final SelenideElementDescriber describe = new SelenideElementDescriber();
@@ -187,6 +197,34 @@ final class SelenideElementDescriberTest {
       """);
   }
 
+  @Test
+  void describesAllElementsWithSingleJavaScriptCall() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    WebElement element1 = mock();
+    WebElement element2 = mock();
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq(List.of(element1, element2)))).thenReturn(List.of(
+      Map.of("tagName", "option", "attributes", Map.of("value", "1", "disabled", ""), "selected", true, "displayed", true, "text", "Bruce"),
+      Map.of("tagName", "option", "attributes", Map.of(), "selected", false, "displayed", false, "text", "")
+    ));
+
+    assertThat(describe.fully(new DriverStub(webDriver), asList(element1, element2))).isEqualToIgnoringNewLines("""
+      [
+      \t<option disabled value="1" selected:true>Bruce</option>,
+      \t<option displayed:false></option>
+      ]
+      """);
+    verifyNoInteractions(element1, element2);
+  }
+
+  @Test
+  void describesElementByWebDriverCalls_ifJavaScriptFailed() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any())).thenThrow(new WebDriverException("method is not implemented"));
+    SelenideElement selenideElement = element("h1", "class", "active");
+
+    assertThat(describe.fully(new DriverStub(webDriver), selenideElement)).isEqualTo("<h1 class=\"active\">Hello yo</h1>");
+  }
+
   private SelenideElement element(String tagName, String attributeName, String attributeValue) {
     SelenideElement selenideElement = mock();
     when(selenideElement.getTagName()).thenReturn(tagName);
@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideElement;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.codeborne.selenide.Mocks.mockWebElement;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+final class SelenideElementPagedIteratorTest {
+  private final List<WebElement> elements = List.of(
+    mockWebElement("li", "one"), mockWebElement("li", "two"), mockWebElement("li", "three"),
+    mockWebElement("li", "four"), mockWebElement("li", "five")
+  );
+  private final CollectionSource collection = spy(new WebElementsCollectionWrapper(new DriverStub(), elements));
+
+  @Test
+  void loadsElementsPageByPage() {
+    List<SelenideElement> result = new ArrayList<>();
+    new SelenideElementPagedIterator<>(collection, SelenideElement.class, 2).forEachRemaining(result::add);
+
+    assertThat(result).hasSize(5);
+    assertThat(result.get(4)).hasToString("$$(5 elements)[4]");
+    verify(collection).getElements(0, 2);
+    verify(collection).getElements(2, 2);
+    verify(collection).getElements(4, 2);
+    verify(collection, times(3)).getElements(anyInt(), anyInt());
+  }
+
+  @Test
+  void lastPageMayBeEmpty() {
+    List<SelenideElement> result = new ArrayList<>();
+    new SelenideElementPagedIterator<>(collection, SelenideElement.class, 5).forEachRemaining(result::add);
+
+    assertThat(result).hasSize(5);
+    verify(collection).getElements(0, 5);
+    verify(collection).getElements(5, 5);
+  }
+
+  @Test
+  void emptyCollection() {
+    SelenideElementPagedIterator<SelenideElement> iterator = new SelenideElementPagedIterator<>(
+      new WebElementsCollectionWrapper(new DriverStub(), List.of()), SelenideElement.class, 10);
+
+    assertThat(iterator.hasNext()).isFalse();
+    assertThatThrownBy(iterator::next)
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessage("Index: 0");
+  }
+
+  @Test
+  void pageSizeShouldBePositive() {
+    assertThatThrownBy(() -> new SelenideElementPagedIterator<>(collection, SelenideElement.class, 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Page size must be positive, but was: 0");
+  }
+
+  @Test
+  void pageIsReloadedOnlyAfterReset() {
+    CollectionPage page = new CollectionPage(collection, 2, 2);
+
+    assertThat(page.getElement(2)).isSameAs(elements.get(2));
+    assertThat(page.getElement(3)).isSameAs(elements.get(3));
+    verify(collection).getElements(2, 2);
+
+    assertThat(page.reset()).isTrue();
+    assertThat(page.getElement(3)).isSameAs(elements.get(3));
+    verify(collection, times(2)).getElements(2, 2);
+  }
+
+  @Test
+  void pageContainsOnlyItsElements() {
+    CollectionPage page = new CollectionPage(collection, 4, 2);
+
+    assertThat(page.isLastPage()).isTrue();
+    assertThatThrownBy(() -> page.getElement(5))
+      .isInstanceOf(IndexOutOfBoundsException.class)
+      .hasMessage("Index: 5, Size: 5");
+    assertThatThrownBy(() -> page.getElement(3))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
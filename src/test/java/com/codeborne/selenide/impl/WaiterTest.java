@@ -0,0 +1,42 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class WaiterTest {
+  private final Waiter waiter = new Waiter();
+  private final AtomicInteger checks = new AtomicInteger();
+
+  @Test
+  void checksConditionImmediately() {
+    long start = nanoTime();
+
+    waiter.wait(10_000, 5_000, PollingStrategy.adaptive(), () -> checks.incrementAndGet() > 0);
+
+    assertThat(checks.get()).isEqualTo(1);
+    assertThat(NANOSECONDS.toMillis(nanoTime() - start)).isLessThan(1000);
+  }
+
+  @Test
+  void checksConditionUntilItIsMet() {
+    waiter.wait(10_000, 1, () -> checks.incrementAndGet() >= 3);
+
+    assertThat(checks.get()).isEqualTo(3);
+  }
+
+  @Test
+  void stopsCheckingAfterTimeout() {
+    long start = nanoTime();
+
+    waiter.wait(50, 10, () -> checks.incrementAndGet() < 0);
+
+    assertThat(checks.get()).isGreaterThan(1);
+    assertThat(NANOSECONDS.toMillis(nanoTime() - start)).isGreaterThanOrEqualTo(50).isLessThan(5000);
+  }
+}
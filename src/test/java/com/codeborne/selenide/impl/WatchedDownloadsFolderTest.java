@@ -0,0 +1,144 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DownloadsFolder;
+import com.codeborne.selenide.SharedDownloadsFolder;
+import com.codeborne.selenide.files.FileFilters;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class WatchedDownloadsFolderTest {
+  private final SharedDownloadsFolder folder = new SharedDownloadsFolder("build/downloads/" + randomUUID());
+
+  @Test
+  void tracksTemporaryFilesByFileSystemEvents() throws IOException {
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(folder)) {
+      assumeThat(watchedFolder.isWatching()).as("File system doesn't support watching").isTrue();
+      assertThat(watchedFolder.hasFiles(Set.of("crdownload"), FileFilters.none())).isFalse();
+
+      File temporaryFile = folder.file("report.pdf.crdownload");
+      writeStringToFile(temporaryFile, "Hello", UTF_8);
+      assertThat(awaitTemporaryFiles(watchedFolder, true)).isTrue();
+
+      assertThat(temporaryFile.delete()).isTrue();
+      assertThat(awaitTemporaryFiles(watchedFolder, false)).isFalse();
+    }
+  }
+
+  @Test
+  void wakesUpAsSoonAsFileHasBeenCreated() {
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(folder)) {
+      assumeThat(watchedFolder.isWatching()).as("File system doesn't support watching").isTrue();
+      new Thread(() -> {
+        try {
+          writeStringToFile(folder.file("report.pdf"), "Hello", UTF_8);
+        }
+        catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }).start();
+
+      long start = currentTimeMillis();
+      assertThat(watchedFolder.awaitChanges(10_000)).isTrue();
+      assertThat(currentTimeMillis() - start).isLessThan(5000);
+      assertThat(watchedFolder.filesNewerThan(start - 1000)).hasSize(1);
+    }
+  }
+
+  @Test
+  void doesNotRescanFolderOnEveryChange_whileFileIsBeingDownloaded() throws InterruptedException {
+    AtomicInteger rescans = new AtomicInteger();
+    SharedDownloadsFolder countingFolder = new SharedDownloadsFolder(folder.getFolder().getPath()) {
+      @Override
+      public Map<String, Long> modificationTimes() {
+        rescans.incrementAndGet();
+        return super.modificationTimes();
+      }
+    };
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(countingFolder)) {
+      assumeThat(watchedFolder.isWatching()).as("File system doesn't support watching").isTrue();
+      AtomicBoolean downloading = new AtomicBoolean(true);
+      Thread download = new Thread(() -> {
+        for (int i = 0; downloading.get(); i++) {
+          try {
+            writeStringToFile(folder.file("report.pdf.crdownload"), "chunk " + i + "\n", UTF_8, true);
+            Thread.sleep(2);
+          }
+          catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }
+      });
+      download.start();
+
+      try {
+        long start = currentTimeMillis();
+        while (currentTimeMillis() - start < 1000) {
+          assertThat(watchedFolder.awaitChanges(200)).isTrue();
+          assertThat(watchedFolder.modificationTimes()).isNotEmpty();
+        }
+      }
+      finally {
+        downloading.set(false);
+        download.join();
+      }
+    }
+
+    assertThat(rescans.get()).isBetween(1, 8);
+  }
+
+  @Test
+  void returnsFalseIfNothingHasChanged() {
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(folder)) {
+      assumeThat(watchedFolder.isWatching()).as("File system doesn't support watching").isTrue();
+      assertThat(watchedFolder.awaitChanges(10)).isFalse();
+    }
+  }
+
+  @Test
+  void usesOnlyNativeWatchServices() {
+    Path path = Path.of("build/downloads");
+    assertThat(WatchedDownloadsFolder.hasNativeWatchService(path, "Linux")).isTrue();
+    assertThat(WatchedDownloadsFolder.hasNativeWatchService(path, "Windows 11")).isTrue();
+    assertThat(WatchedDownloadsFolder.hasNativeWatchService(path, "Mac OS X")).isFalse();
+    assertThat(WatchedDownloadsFolder.hasNativeWatchService(path, "FreeBSD")).isFalse();
+  }
+
+  @Test
+  void fallsBackToPolling_ifFolderCannotBeWatched() {
+    DownloadsFolder remoteFolder = mock();
+    when(remoteFolder.hasFiles(Set.of("part"), FileFilters.none())).thenReturn(true);
+
+    try (WatchedDownloadsFolder watchedFolder = WatchedDownloadsFolder.watch(remoteFolder)) {
+      assertThat(watchedFolder.isWatching()).isFalse();
+      assertThat(watchedFolder.hasFiles(Set.of("part"), FileFilters.none())).isTrue();
+      assertThat(watchedFolder.awaitChanges(1)).isTrue();
+      verify(remoteFolder).hasFiles(Set.of("part"), FileFilters.none());
+    }
+  }
+
+  private boolean awaitTemporaryFiles(WatchedDownloadsFolder watchedFolder, boolean expected) {
+    for (long start = currentTimeMillis(); currentTimeMillis() - start < 5000; watchedFolder.awaitChanges(100)) {
+      if (watchedFolder.hasFiles(Set.of("crdownload"), FileFilters.none()) == expected) {
+        break;
+      }
+    }
+    return watchedFolder.hasFiles(Set.of("crdownload"), FileFilters.none());
+  }
+}
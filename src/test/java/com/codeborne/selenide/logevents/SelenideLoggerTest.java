@@ -71,6 +71,28 @@ final class SelenideLoggerTest {
     verifyNoMoreInteractions(listener1, listener2, listener3);
   }
 
+  @Test
+  void doesNotBuildDescriptions_ifThereAreNoListeners() {
+    SelenideLog log = SelenideLogger.beginStep(() -> {
+      throw new AssertionError("should not be called");
+    }, "click", NO_ARGS);
+
+    assertThat(SelenideLogger.beginStep("div", "click")).isSameAs(log);
+    SelenideLogger.commitStep(log, PASS);
+    SelenideLogger.commitStep(log, new RuntimeException("Oops"));
+    assertThat(log.getError()).isNull();
+  }
+
+  @Test
+  void evaluatesDescriptions_whenListenerReadsThem() {
+    LogEventListener listener = mock();
+    SelenideLogger.addListener("simpleReport", listener);
+
+    SelenideLogger.commitStep(SelenideLogger.beginStep(() -> "div", "setValue", "abc"), PASS);
+
+    verifyEvent(listener, "div", "set value(abc)", PASS);
+  }
+
   @Test
   void doesNotFail_ifSomeOfListeners_before_throwsException() {
     LogEventListener listener1 = mock();
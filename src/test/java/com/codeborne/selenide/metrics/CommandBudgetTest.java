@@ -0,0 +1,132 @@
+package com.codeborne.selenide.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+final class CommandBudgetTest {
+  private final WebDriverMetricsListener listener = new WebDriverMetricsListener(mock());
+  private final WebDriver webDriver = mock();
+
+  @Test
+  void passesIfBlockIssuedNotMoreCommandsThanExpected() {
+    CommandBudget.expectAtMost(2, () -> {
+      command("getTitle");
+      command("getCurrentUrl");
+    });
+  }
+
+  @Test
+  void failsIfBlockIssuedMoreCommandsThanExpected() {
+    assertThatThrownBy(() -> CommandBudget.expectAtMost(1, () -> {
+      command("getTitle");
+      command("getCurrentUrl");
+      command("getTitle");
+    }))
+      .isInstanceOf(AssertionError.class)
+      .hasMessage("Expected at most 1 WebDriver commands, but was: 3 {getTitle=2, getCurrentUrl=1}");
+  }
+
+  @Test
+  void countsOnlyCommandsIssuedWhileRunning() {
+    command("getTitle");
+    CommandBudget budget = CommandBudget.start(5);
+    command("getCurrentUrl");
+    budget.stop();
+    command("getTitle");
+
+    assertThat(budget.commands()).containsExactly("getCurrentUrl");
+    assertThat(budget).hasToString("1/5 WebDriver commands");
+  }
+
+  @Test
+  void nestedBudgets() {
+    CommandBudget outer = CommandBudget.start(5);
+    command("getTitle");
+    CommandBudget inner = CommandBudget.start(1);
+    command("getCurrentUrl");
+    inner.stop();
+    command("getPageSource");
+    outer.stop();
+
+    assertThat(outer.commands()).containsExactly("getTitle", "getCurrentUrl", "getPageSource");
+    assertThat(inner.commands()).containsExactly("getCurrentUrl");
+  }
+
+  @Test
+  void stopsCountingIfBlockFailed() {
+    assertThatThrownBy(() -> CommandBudget.expectAtMost(0, () -> {
+      throw new IllegalArgumentException("oops");
+    })).isInstanceOf(IllegalArgumentException.class).hasMessage("oops");
+
+    CommandBudget budget = CommandBudget.start(1);
+    command("getTitle");
+    budget.stop();
+    assertThat(budget.commands()).containsExactly("getTitle");
+  }
+
+  @Test
+  void failsIfCurrentThreadDoesNotUseInstrumentedBrowser() {
+    ExecutorService otherThread = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> budget = otherThread.submit(() -> CommandBudget.expectAtMost(5, () -> {}));
+
+      assertThatThrownBy(budget::get)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("WebDriver commands are not counted in thread");
+    }
+    finally {
+      otherThread.shutdown();
+    }
+  }
+
+  @Test
+  void failsIfInstrumentedBrowserHasBeenClosed() {
+    command("quit");
+
+    assertThatThrownBy(() -> CommandBudget.expectAtMost(5, () -> {}))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("WebDriver commands are not counted in thread");
+  }
+
+  @Test
+  void doesNotCountLocalMethodsAsCommands() throws NoSuchMethodException {
+    CommandBudget budget = CommandBudget.start(1);
+    call(WebDriver.class.getMethod("manage"));
+    call(WebDriver.Options.class.getMethod("window"));
+    call(WebDriver.Window.class.getMethod("getSize"));
+    budget.stop();
+
+    assertThat(budget.commands()).containsExactly("getSize");
+    budget.verify();
+  }
+
+  @Test
+  void maxCommandsCannotBeNegative() {
+    assertThatThrownBy(() -> CommandBudget.expectAtMost(-1, () -> {}))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Max number of commands must be non-negative, but was: -1");
+  }
+
+  private void command(String name) {
+    try {
+      call(WebDriver.class.getMethod(name));
+    }
+    catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(name, e);
+    }
+  }
+
+  private void call(Method method) {
+    listener.beforeAnyCall(webDriver, method, null);
+    listener.afterAnyCall(webDriver, method, null, null);
+  }
+}
@@ -0,0 +1,108 @@
+package com.codeborne.selenide.metrics;
+
+import com.codeborne.selenide.logevents.SelenideLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HistogramMetricsTest {
+  private final HistogramMetrics metrics = new HistogramMetrics();
+
+  @Test
+  void collectsLatencyOfWebDriverCommands() {
+    metrics.webDriverCommand("findElement", 2_000_000);
+    metrics.webDriverCommand("findElement", 4_000_000);
+    metrics.webDriverCommand("getText", 1_000_000);
+
+    Map<String, Histogram.Snapshot> commands = metrics.webDriverCommands();
+    assertThat(commands).containsOnlyKeys("findElement", "getText");
+    assertThat(commands.get("findElement").count()).isEqualTo(2);
+    assertThat(commands.get("findElement").total()).isEqualTo(6_000_000);
+    assertThat(commands.get("findElement").max()).isEqualTo(4_000_000);
+  }
+
+  @Test
+  void collectsMetricsOfSteps() {
+    SelenideLog click = new SelenideLog("#submit", "click()");
+    metrics.beforeEvent(click);
+    metrics.webDriverCommand("findElement", 2_000_000);
+    metrics.retry("click");
+    metrics.sleep(200_000_000);
+    metrics.webDriverCommand("findElement", 2_000_000);
+    metrics.webDriverCommand("click", 3_000_000);
+    metrics.afterEvent(click);
+
+    HistogramMetrics.StepSnapshot step = metrics.steps().get("click");
+    assertThat(step.duration().count()).isEqualTo(1);
+    assertThat(step.webDriverCommands().total()).isEqualTo(3);
+    assertThat(step.webDriverNanos()).isEqualTo(7_000_000);
+    assertThat(step.sleepNanos()).isEqualTo(200_000_000);
+    assertThat(step.retries()).isEqualTo(1);
+    assertThat(metrics.retries()).isEqualTo(1);
+    assertThat(metrics.sleepNanos()).isEqualTo(200_000_000);
+  }
+
+  @Test
+  void nestedStepsAreIncludedIntoParentStep() {
+    SelenideLog login = new SelenideLog("LoginPage", "login(bob)");
+    SelenideLog setValue = new SelenideLog("#username", "set value(bob)");
+    metrics.beforeEvent(login);
+    metrics.beforeEvent(setValue);
+    metrics.webDriverCommand("sendKeys", 1_000_000);
+    metrics.afterEvent(setValue);
+    metrics.webDriverCommand("click", 1_000_000);
+    metrics.afterEvent(login);
+
+    assertThat(metrics.steps()).containsOnlyKeys("login", "set value");
+    assertThat(metrics.steps().get("set value").webDriverCommands().total()).isEqualTo(1);
+    assertThat(metrics.steps().get("login").webDriverCommands().total()).isEqualTo(2);
+  }
+
+  @Test
+  void ignoresStepsStartedBeforeMetricsWereEnabled() {
+    metrics.afterEvent(new SelenideLog("webdriver", "create()"));
+
+    assertThat(metrics.steps()).isEmpty();
+  }
+
+  @Test
+  void stepName() {
+    assertThat(HistogramMetrics.stepName(new SelenideLog("#name", "should have(text \"Bob\")"))).isEqualTo("should have");
+    assertThat(HistogramMetrics.stepName(new SelenideLog("LoginPage", "Log in as admin"))).isEqualTo("Log in as admin");
+  }
+
+  @Test
+  void writesMetricsToJsonFile(@TempDir File folder) throws IOException {
+    SelenideLog click = new SelenideLog("#submit", "click()");
+    metrics.beforeEvent(click);
+    metrics.webDriverCommand("click", 1_500_000);
+    metrics.afterEvent(click);
+    File file = new File(folder, "reports/selenide-metrics.json");
+
+    metrics.writeTo(file);
+
+    String json = Files.readString(file.toPath(), UTF_8).replaceAll("\\s", "");
+    assertThat(json)
+      .contains("\"webDriverCommands\"", "\"click\"", "\"totalMs\":1.5", "\"steps\"", "\"selenideMs\"", "\"retries\":0");
+  }
+
+  @Test
+  void reset() {
+    metrics.webDriverCommand("click", 1_000_000);
+    metrics.retry("click");
+    metrics.sleep(1_000_000);
+
+    metrics.reset();
+
+    assertThat(metrics.webDriverCommands()).isEmpty();
+    assertThat(metrics.retries()).isZero();
+    assertThat(metrics.sleepNanos()).isZero();
+  }
+}
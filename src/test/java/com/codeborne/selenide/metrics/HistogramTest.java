@@ -0,0 +1,66 @@
+package com.codeborne.selenide.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HistogramTest {
+  private final Histogram histogram = new Histogram();
+
+  @Test
+  void emptyHistogram() {
+    assertThat(histogram.snapshot()).isEqualTo(new Histogram.Snapshot(0, 0, 0, 0, 0, 0));
+    assertThat(histogram.snapshot().mean()).isEqualTo(0);
+  }
+
+  @Test
+  void valuesAreCountedInPowerOfTwoBuckets() {
+    assertThat(Histogram.bucket(0)).isEqualTo(0);
+    assertThat(Histogram.bucket(1)).isEqualTo(1);
+    assertThat(Histogram.bucket(2)).isEqualTo(2);
+    assertThat(Histogram.bucket(3)).isEqualTo(2);
+    assertThat(Histogram.bucket(4)).isEqualTo(3);
+    assertThat(Histogram.bucket(1000)).isEqualTo(10);
+    assertThat(Histogram.bucket(Long.MAX_VALUE)).isEqualTo(63);
+    assertThat(Histogram.upperBound(10)).isEqualTo(1023);
+  }
+
+  @Test
+  void approximatePercentiles() {
+    IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+    Histogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.count()).isEqualTo(100);
+    assertThat(snapshot.total()).isEqualTo(5050);
+    assertThat(snapshot.mean()).isEqualTo(50.5);
+    assertThat(snapshot.max()).isEqualTo(100);
+    assertThat(snapshot.p50()).isEqualTo(63);
+    assertThat(snapshot.p90()).isEqualTo(100);
+    assertThat(snapshot.p99()).isEqualTo(100);
+  }
+
+  @Test
+  void negativeValuesAreCountedAsZero() {
+    histogram.record(-5);
+
+    assertThat(histogram.snapshot()).isEqualTo(new Histogram.Snapshot(1, 0, 0, 0, 0, 0));
+  }
+
+  @Test
+  void canBeUpdatedByManyThreads() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8; i++) {
+      executor.execute(() -> IntStream.range(0, 10_000).forEach(value -> histogram.record(1)));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(histogram.snapshot().count()).isEqualTo(80_000);
+    assertThat(histogram.snapshot().total()).isEqualTo(80_000);
+  }
+}
@@ -0,0 +1,75 @@
+package com.codeborne.selenide.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+final class WebDriverMetricsListenerTest {
+  private final SelenideMetrics metrics = mock();
+  private final WebDriverMetricsListener listener = new WebDriverMetricsListener(metrics);
+  private final WebDriver webDriver = mock();
+
+  @Test
+  void measuresWebDriverCommands() throws NoSuchMethodException {
+    Method findElement = WebDriver.class.getMethod("findElement", By.class);
+    Object[] args = {By.id("login")};
+
+    listener.beforeAnyCall(webDriver, findElement, args);
+    listener.afterAnyCall(webDriver, findElement, args, mock(WebElement.class));
+
+    verify(metrics).webDriverCommand(eq("findElement"), anyLong());
+  }
+
+  @Test
+  void measuresFailedCommands() throws NoSuchMethodException {
+    Method findElement = WebDriver.class.getMethod("findElement", By.class);
+    Object[] args = {By.id("login")};
+
+    listener.beforeAnyCall(webDriver, findElement, args);
+    listener.onError(webDriver, findElement, args, new InvocationTargetException(new NoSuchElementException("login")));
+
+    verify(metrics).webDriverCommand(eq("findElement"), anyLong());
+  }
+
+  @Test
+  void manageWindowGetSize_isOneCommand() throws NoSuchMethodException {
+    call(WebDriver.class.getMethod("manage"));
+    call(WebDriver.Options.class.getMethod("window"));
+    call(WebDriver.Window.class.getMethod("getSize"));
+    call(WebDriver.class.getMethod("switchTo"));
+    call(WebDriver.TargetLocator.class.getMethod("defaultContent"));
+    call(HasCapabilities.class.getMethod("getCapabilities"));
+
+    verify(metrics).webDriverCommand(eq("getSize"), anyLong());
+    verify(metrics).webDriverCommand(eq("defaultContent"), anyLong());
+    verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void ignoresLocalMethods() throws NoSuchMethodException {
+    Method toString = Object.class.getMethod("toString");
+
+    listener.beforeAnyCall(webDriver, toString, null);
+    listener.afterAnyCall(webDriver, toString, null, "WebDriver");
+
+    verifyNoInteractions(metrics);
+  }
+
+  private void call(Method method) {
+    listener.beforeAnyCall(webDriver, method, null);
+    listener.afterAnyCall(webDriver, method, null, null);
+  }
+}
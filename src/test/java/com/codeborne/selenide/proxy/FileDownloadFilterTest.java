@@ -5,7 +5,11 @@ import com.browserup.bup.util.HttpMessageInfo;
 import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.DummyRandomizer;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpRequest;
@@ -13,16 +17,24 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.littleshoot.proxy.HttpFilters;
 
 import java.io.File;
 import java.io.IOException;
 
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.apache.commons.io.FileUtils.readFileToByteArray;
 import static org.apache.commons.io.FileUtils.readFileToString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +54,7 @@ final class FileDownloadFilterTest {
     when(response.headers()).thenReturn(headers);
 
     when(contents.getContentType()).thenReturn("app/json");
-    when(contents.getTextContents()).thenReturn("my-text");
+    when(contents.getBinaryContents()).thenReturn("my-text".getBytes(UTF_8));
     File directory = new File("build/downloads/random-text").getAbsoluteFile();
     deleteDirectory(directory);
   }
@@ -105,6 +117,18 @@ final class FileDownloadFilterTest {
       .isEqualTo("1 responses:\n  #1  null -> 300 \"300 or above\" {hkey-01=hvalue-01} app/json  (7 bytes)\n");
   }
 
+  @Test
+  void countsResponseSizeInBytes() {
+    filter.activate();
+    mockStatusCode(404, "not found");
+    when(contents.getBinaryContents()).thenReturn("\u00e9t\u00e9".getBytes(UTF_8));
+    filter.filterResponse(response, contents, messageInfo);
+
+    assertThat(filter.responsesAsString())
+      .isEqualTo("1 responses:\n  #1  null -> 404 \"not found\" {hkey-01=hvalue-01} app/json  (5 bytes)\n");
+    verify(contents, never()).getTextContents();
+  }
+
   @Test
   void interceptsHttpResponse() throws IOException {
     filter.activate();
@@ -133,7 +157,7 @@ final class FileDownloadFilterTest {
     filter.filterResponse(response, contents, messageInfo);
 
     assertThat(filter.responsesAsString())
-      .isEqualTo("1 responses:\n  #1  /foo/bar/cv.pdf?42 -> 200 \"200=success\" {} app/json  (7 bytes)\n");
+      .isEqualTo("1 responses:\n  #1  /foo/bar/cv.pdf?42 -> 200 \"200=success\" {} app/json  (5 bytes)\n");
     File file = filter.downloads().files().get(0).getFile();
     File expectedFile = new File("build/downloads/random-text/cv.pdf");
     assertThat(file.getName()).isEqualTo("cv.pdf");
@@ -141,6 +165,51 @@ final class FileDownloadFilterTest {
     assertThat(readFileToString(file, UTF_8)).isEqualTo("HELLO");
   }
 
+  @Test
+  void streamsResponseContentToFile() throws IOException {
+    filter.activate();
+    HttpFilters stream = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://localhost/files/report.pdf"), null);
+    DefaultHttpResponse headers = new DefaultHttpResponse(HTTP_1_1, OK);
+    headers.headers().add("content-disposition", "attachement; filename=report.pdf");
+
+    stream.serverToProxyResponse(headers);
+    stream.serverToProxyResponse(new DefaultHttpContent(wrappedBuffer(new byte[]{1, 2, 3})));
+    assertThat(filter.downloads().size()).as("Download is not completed yet").isEqualTo(0);
+    stream.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer(new byte[]{4, 5})));
+
+    assertThat(filter.downloads().size()).isEqualTo(1);
+    File file = filter.downloads().files().get(0).getFile();
+    assertThat(file.getName()).isEqualTo("report.pdf");
+    assertThat(readFileToByteArray(file)).isEqualTo(new byte[]{1, 2, 3, 4, 5});
+    assertThat(filter.responsesAsString()).isEqualTo("1 responses:\n" +
+      "  #1  http://localhost/files/report.pdf -> 200 \"OK\" {content-disposition=attachement; filename=report.pdf} null  (5 bytes)\n");
+  }
+
+  @Test
+  void recordsOnlyMetadataOfUnsuccessfulStreamedResponse() {
+    filter.activate();
+    HttpFilters stream = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://localhost/missing.pdf"), null);
+
+    stream.serverToProxyResponse(new DefaultHttpResponse(HTTP_1_1, NOT_FOUND));
+    stream.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer("Not found".getBytes(UTF_8))));
+
+    assertThat(filter.downloads().size()).isEqualTo(0);
+    assertThat(filter.responsesAsString())
+      .isEqualTo("1 responses:\n  #1  http://localhost/missing.pdf -> 404 \"Not Found\" {} null  (9 bytes)\n");
+  }
+
+  @Test
+  void doesNotStreamResponsesIfNotActivated() {
+    filter.deactivate();
+    HttpFilters stream = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://localhost/files/report.pdf"), null);
+
+    stream.serverToProxyResponse(new DefaultHttpResponse(HTTP_1_1, OK));
+    stream.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer(new byte[]{1, 2, 3})));
+
+    assertThat(filter.downloads().size()).isEqualTo(0);
+    assertThat(filter.responsesAsString()).isEqualTo("0 responses:\n");
+  }
+
   private HttpHeaders mockHeaders(HttpMessage message) {
     HttpHeaders headers = new DefaultHttpHeaders();
     when(message.headers()).thenReturn(headers);
@@ -0,0 +1,64 @@
+package com.codeborne.selenide.selector;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class ByDeepShadowCssTest {
+  private final WebDriver webDriver = mock(withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final JavascriptExecutor js = (JavascriptExecutor) webDriver;
+  private final ByDeepShadowCss selector = (ByDeepShadowCss) ByDeepShadowCss.cssSelector("#host .item");
+
+  @Test
+  void findElement_requestsOnlyFirstElement() {
+    WebElement element = mock();
+    when(js.executeScript(anyString(), eq("#host .item"), eq(0), eq(1))).thenReturn(List.of(element));
+
+    assertThat(selector.findElement(webDriver)).isSameAs(element);
+    verify(js).executeScript(anyString(), eq("#host .item"), eq(0), eq(1));
+  }
+
+  @Test
+  void findElement_throwsNoSuchElementException_ifNothingFound() {
+    when(js.executeScript(anyString(), eq("#host .item"), eq(0), eq(1))).thenReturn(List.of());
+
+    assertThatThrownBy(() -> selector.findElement(webDriver))
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("Cannot locate an element in shadow dom By.shadowDeepCss: #host .item");
+  }
+
+  @Test
+  void findElements_withoutLimit() {
+    List<WebElement> elements = List.of(mock(), mock(), mock());
+    when(js.executeScript(anyString(), eq("#host .item"), eq(0), eq(Integer.MAX_VALUE))).thenReturn(elements);
+
+    assertThat(selector.findElements(webDriver)).isEqualTo(elements);
+  }
+
+  @Test
+  void findElements_fromIndex_withLimit() {
+    List<WebElement> elements = List.of(mock(), mock());
+    when(js.executeScript(anyString(), eq("#host .item"), eq(5), eq(2))).thenReturn(elements);
+
+    assertThat(selector.findElements(webDriver, 5, 2)).isEqualTo(elements);
+  }
+
+  @Test
+  void isA_By() {
+    assertThat(ByDeepShadowCss.cssSelector("#host")).isInstanceOf(By.class).hasToString("By.shadowDeepCss: #host");
+  }
+}
@@ -10,6 +10,7 @@ import org.openqa.selenium.NoSuchElementException;
 import static com.codeborne.selenide.CollectionCondition.size;
 import static com.codeborne.selenide.Condition.exactText;
 import static com.codeborne.selenide.Condition.exactValue;
+import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.Condition.text;
 import static com.codeborne.selenide.Selectors.shadowDeepCss;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +72,36 @@ final class ShadowElementDeepSelectorsTest extends ITest {
     });
   }
 
+  @Test
+  void findsElementInShadowRootAttachedToExistingElement() {
+    driver().executeJavaScript("const host = document.createElement('div'); host.id = 'late-host'; document.body.appendChild(host);");
+    $(shadowDeepCss("#lateButton")).shouldNot(exist);
+
+    driver().executeJavaScript("setTimeout(() => {" +
+      "  const button = document.createElement('button'); button.id = 'lateButton'; button.textContent = 'Late button';" +
+      "  document.getElementById('late-host').attachShadow({mode: 'open'}).appendChild(button);" +
+      "}, 100)");
+
+    $(shadowDeepCss("#lateButton")).shouldHave(exactText("Late button"));
+  }
+
+  @Test
+  void doesNotWalkWholePageAgain_ifNothingHasChanged() {
+    $$(shadowDeepCss("#buttonInShadow")).shouldHave(size(1));
+    driver().executeJavaScript("window.__walks = 0;" +
+      "for (const type of [Document, Element, DocumentFragment]) {" +
+      "  const querySelectorAll = type.prototype.querySelectorAll;" +
+      "  type.prototype.querySelectorAll = function (selector) {" +
+      "    if (selector === '*') window.__walks++;" +
+      "    return querySelectorAll.call(this, selector);" +
+      "  };" +
+      "}");
+
+    assertThat($$(shadowDeepCss("#no-such-element")).size()).isZero();
+    assertThat($$(shadowDeepCss("#buttonInShadow")).size()).isEqualTo(1);
+    assertThat(driver().<Long>executeJavaScript("return window.__walks")).isZero();
+  }
+
   @Test
   void clickInsideInnerShadowHost() {
     SelenideElement button = $(shadowDeepCss("#buttonInInnerShadow"));
@@ -60,6 +60,33 @@ public class Configuration {
    */
   public static long pollingInterval = defaults.pollingInterval();
 
+  /**
+   * Wait for conditions in browser instead of sleeping {@link #pollingInterval} between checks.
+   * A single asynchronous JavaScript call re-checks the condition on every DOM change and animation frame,
+   * and returns as soon as the condition is met. So the check doesn't lag behind the page by up to polling interval,
+   * and long waits need much fewer WebDriver calls.
+   * Works for conditions which have a JavaScript form (like {@code visible}, {@code cssClass}, {@code attribute}, {@code size})
+   * and elements located by CSS/XPath selectors. Otherwise, Selenide falls back to polling.
+   * Can be configured either programmatically, via selenide.properties file or by system property "-Dselenide.waitViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean waitViaJs = defaults.waitViaJs();
+
+  /**
+   * Defines how long to wait between checks in all wait loops (assertions, waiting for downloads etc.)
+   * <ul>
+   *   <li>"fixed" - sleep {@link #pollingInterval} between checks</li>
+   *   <li>"adaptive" - check often during the first milliseconds and then less and less often
+   *       (see {@link com.codeborne.selenide.impl.AdaptivePolling})</li>
+   * </ul>
+   * Can be configured either programmatically (to any implementation of {@link PollingStrategy}),
+   * via selenide.properties file or by system property "-Dselenide.pollingStrategy=adaptive".
+   * <br>
+   * Default value: fixed
+   */
+  public static PollingStrategy pollingStrategy = defaults.pollingStrategy();
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
    * Can be configured either programmatically, via selenide.properties file or by system property "-Dselenide.holdBrowserOpen=true".
@@ -86,6 +113,31 @@ public class Configuration {
    */
   public static boolean reopenBrowserOnFail = defaults.reopenBrowserOnFail();
 
+  /**
+   * Selenide checks if the browser is still alive before opening a page (by calling {@code getTitle()}).
+   * If the browser has successfully executed some command within this period (in milliseconds),
+   * the check is skipped. If the browser has died meanwhile, {@code open(url)} detects it by the navigation failure
+   * and retries once with a fresh browser.
+   * Can be configured either programmatically, via selenide.properties file
+   * or by system property "-Dselenide.browserHealthCheckInterval=5000".
+   * <br>
+   * Default value: 0 (browser is checked before every {@code open(url)})
+   */
+  public static long browserHealthCheckInterval = defaults.browserHealthCheckInterval();
+
+  /**
+   * Number of browsers which Selenide launches in advance (in background threads) and reuses between tests.
+   * When a test opens a browser, it gets an already started one (with the same settings) instead of waiting for a new browser.
+   * When a test closes the browser, its cookies, storages and windows are cleared, and the browser is returned to the pool.
+   * Only local Chromium browsers (Chrome, Edge) are pooled: other browsers cannot clear state of all visited sites.
+   * Not used with {@link #remote}, {@link #proxyEnabled} and custom proxy.
+   * Can be configured either programmatically, via selenide.properties file
+   * or by system property "-Dselenide.browserPoolSize=2".
+   * <br>
+   * Default value: 0 (browsers are not pooled)
+   */
+  public static int browserPoolSize = defaults.browserPoolSize();
+
   /**
    * Which browser to use.
    * Can be configured either programmatically, via selenide.properties file or by system property "-Dselenide.browser=ie".
@@ -176,6 +228,19 @@ public class Configuration {
    */
   public static boolean clickViaJs = defaults.clickViaJs();
 
+  /**
+   * Check that element is clickable/editable by a single JavaScript call before clicking or typing
+   * (instead of separate WebDriver calls {@code isDisplayed}, {@code getCssValue}, {@code isEnabled}, {@code getAttribute}).
+   * With {@link #clickViaJs}, the check and the click are performed by a single JavaScript call.
+   * It makes a difference for remote browsers where every WebDriver call is a network round trip.
+   * Ignored for browsers which don't support JavaScript.
+   * Can be configured either programmatically, via selenide.properties file
+   * or by system property "-Dselenide.checkActionabilityViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean checkActionabilityViaJs = defaults.checkActionabilityViaJs();
+
   /**
    * Defines if Selenide takes screenshots on failing tests.
    * Can be configured either programmatically, via selenide.properties file or by system property "-Dselenide.screenshots=false".
@@ -192,6 +257,32 @@ public class Configuration {
    */
   public static boolean savePageSource = defaults.savePageSource();
 
+  /**
+   * Save screenshots and page sources of failed tests to files in background threads.
+   * The browser is still asked for the screenshot and page source in the test thread,
+   * but writing files (and attaching them to reports) doesn't block the test.
+   * Test framework extensions (like {@code ScreenShooterExtension} or {@code TextReportExtension})
+   * wait for the files in the end of test.
+   * Can be configured either programmatically, via selenide.properties file
+   * or by system property "-Dselenide.asyncScreenshots=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean asyncScreenshots = defaults.asyncScreenshots();
+
+  /**
+   * Collect metrics of WebDriver commands and Selenide steps: number and latency of WebDriver commands
+   * (per command and per step), retries and time spent sleeping between checks.
+   * At the end of the run, metrics are written to file "selenide-metrics.json" in {@link #reportsFolder}.
+   * Works only for browsers opened by Selenide (not for webdrivers set by {@code WebDriverRunner.setWebDriver()}).
+   * Can be configured either programmatically, via selenide.properties file or by system property "-Dselenide.metrics=true".
+   * <br>
+   * Default value: false
+   *
+   * @see com.codeborne.selenide.metrics.SelenideMetrics
+   */
+  public static boolean metrics = defaults.metrics();
+
   /**
    * Folder to store screenshots to.
    * Can be configured either programmatically, via selenide.properties file
@@ -259,6 +350,22 @@ public class Configuration {
    */
   public static SelectorMode selectorMode = defaults.selectorMode();
 
+  /**
+   * If set to true, Selenide remembers the web element resolved for a parent element
+   * (e.g. {@code $("#grid")} in {@code $("#grid").$(".row").$(".cell")}) and reuses it for nested lookups.
+   * The parent is re-resolved only when the remembered element becomes stale.
+   * <br>
+   * It reduces the number of WebDriver calls for deeply nested page objects (especially useful with remote browsers).
+   * But be careful: if a parent element is still attached to DOM, but doesn't match its selector anymore,
+   * Selenide will keep searching inside of it.
+   * <br>
+   * Can be configured either programmatically, via selenide.properties file
+   * or by system property "-Dselenide.cacheParentElements=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean cacheParentElements = defaults.cacheParentElements();
+
   /**
    * <p>Assertion mode</p>
    *
@@ -376,8 +483,12 @@ public class Configuration {
       .baseUrl(baseUrl)
       .timeout(timeout)
       .pollingInterval(pollingInterval)
+      .waitViaJs(waitViaJs)
+      .pollingStrategy(pollingStrategy)
       .holdBrowserOpen(holdBrowserOpen)
       .reopenBrowserOnFail(reopenBrowserOnFail)
+      .browserHealthCheckInterval(browserHealthCheckInterval)
+      .browserPoolSize(browserPoolSize)
       .browser(browser)
       .browserVersion(browserVersion)
       .remote(remote)
@@ -387,14 +498,18 @@ public class Configuration {
       .pageLoadStrategy(pageLoadStrategy)
       .pageLoadTimeout(pageLoadTimeout)
       .clickViaJs(clickViaJs)
+      .checkActionabilityViaJs(checkActionabilityViaJs)
       .screenshots(screenshots)
       .savePageSource(savePageSource)
+      .asyncScreenshots(asyncScreenshots)
+      .metrics(metrics)
       .reportsFolder(reportsFolder)
       .downloadsFolder(downloadsFolder)
       .reportsUrl(reportsUrl)
       .fastSetValue(fastSetValue)
       .textCheck(textCheck)
       .selectorMode(selectorMode)
+      .cacheParentElements(cacheParentElements)
       .assertionMode(assertionMode)
       .fileDownload(fileDownload)
       .proxyEnabled(proxyEnabled)
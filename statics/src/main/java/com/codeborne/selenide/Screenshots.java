@@ -81,6 +81,17 @@ public class Screenshots {
     return screenshots.finishContext();
   }
 
+  /**
+   * Wait until all screenshots taken by the current thread have been saved to files
+   * (needed only if {@link Configuration#asyncScreenshots} is enabled).
+   *
+   * @return false if not all files have been saved in 30 seconds
+   */
+  @CanIgnoreReturnValue
+  public static boolean flush() {
+    return screenshots.flush();
+  }
+
   /**
    * Get the last screenshot taken
    *
@@ -881,6 +881,26 @@ public class Selenide {
     return getSelenideDriver().download(new URI(url), timeoutMs);
   }
 
+  /**
+   * Download multiple files in parallel using direct links (the same way as {@link #download(String, long)}).
+   * Connections to the same host are reused.
+   *
+   * @param urls      either relative or absolute urls (must be properly encoded)
+   * @param timeoutMs specific timeout in ms (for every file)
+   * @return downloaded files in the same order as given urls
+   * @throws FileNotDownloadedError if failed to download any of files
+   */
+  public static List<File> downloadAll(List<URI> urls, long timeoutMs) {
+    return getSelenideDriver().downloadAll(urls, timeoutMs);
+  }
+
+  /**
+   * @see #downloadAll(List, long)
+   */
+  public static List<File> downloadAll(List<URI> urls) {
+    return getSelenideDriver().downloadAll(urls);
+  }
+
   /**
    * Access browser's local storage.
    * Allows setting, getting, removing items as well as getting the size and clear the storage.
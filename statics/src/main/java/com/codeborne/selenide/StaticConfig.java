@@ -27,6 +27,16 @@ final class StaticConfig implements Config {
     return Configuration.pollingInterval;
   }
 
+  @Override
+  public boolean waitViaJs() {
+    return Configuration.waitViaJs;
+  }
+
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return Configuration.pollingStrategy;
+  }
+
   @Deprecated
   @Override
   public boolean holdBrowserOpen() {
@@ -38,11 +48,26 @@ final class StaticConfig implements Config {
     return Configuration.reopenBrowserOnFail;
   }
 
+  @Override
+  public long browserHealthCheckInterval() {
+    return Configuration.browserHealthCheckInterval;
+  }
+
+  @Override
+  public int browserPoolSize() {
+    return Configuration.browserPoolSize;
+  }
+
   @Override
   public boolean clickViaJs() {
     return Configuration.clickViaJs;
   }
 
+  @Override
+  public boolean checkActionabilityViaJs() {
+    return Configuration.checkActionabilityViaJs;
+  }
+
   @Override
   public boolean screenshots() {
     return Configuration.screenshots;
@@ -53,6 +78,16 @@ final class StaticConfig implements Config {
     return Configuration.savePageSource;
   }
 
+  @Override
+  public boolean asyncScreenshots() {
+    return Configuration.asyncScreenshots;
+  }
+
+  @Override
+  public boolean metrics() {
+    return Configuration.metrics;
+  }
+
   @Override
   public String reportsFolder() {
     return Configuration.reportsFolder;
@@ -84,6 +119,11 @@ final class StaticConfig implements Config {
     return Configuration.selectorMode;
   }
 
+  @Override
+  public boolean cacheParentElements() {
+    return Configuration.cacheParentElements;
+  }
+
   @Override
   public AssertionMode assertionMode() {
     return Configuration.assertionMode;
@@ -95,6 +95,16 @@ final class ThreadLocalSelenideConfig implements Config {
     return config.get().pollingInterval();
   }
 
+  @Override
+  public boolean waitViaJs() {
+    return config.get().waitViaJs();
+  }
+
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return config.get().pollingStrategy();
+  }
+
   @Override
   @SuppressWarnings("deprecation")
   public boolean holdBrowserOpen() {
@@ -106,11 +116,26 @@ final class ThreadLocalSelenideConfig implements Config {
     return config.get().reopenBrowserOnFail();
   }
 
+  @Override
+  public long browserHealthCheckInterval() {
+    return config.get().browserHealthCheckInterval();
+  }
+
+  @Override
+  public int browserPoolSize() {
+    return config.get().browserPoolSize();
+  }
+
   @Override
   public boolean clickViaJs() {
     return config.get().clickViaJs();
   }
 
+  @Override
+  public boolean checkActionabilityViaJs() {
+    return config.get().checkActionabilityViaJs();
+  }
+
   @Override
   public boolean screenshots() {
     return config.get().screenshots();
@@ -121,6 +146,16 @@ final class ThreadLocalSelenideConfig implements Config {
     return config.get().savePageSource();
   }
 
+  @Override
+  public boolean asyncScreenshots() {
+    return config.get().asyncScreenshots();
+  }
+
+  @Override
+  public boolean metrics() {
+    return config.get().metrics();
+  }
+
   @Override
   public String reportsFolder() {
     return config.get().reportsFolder();
@@ -152,6 +187,11 @@ final class ThreadLocalSelenideConfig implements Config {
     return config.get().selectorMode();
   }
 
+  @Override
+  public boolean cacheParentElements() {
+    return config.get().cacheParentElements();
+  }
+
   @Override
   public AssertionMode assertionMode() {
     return config.get().assertionMode();
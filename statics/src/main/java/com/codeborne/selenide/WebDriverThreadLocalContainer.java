@@ -47,7 +47,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private final AtomicBoolean deadThreadsWatchdogStarted = new AtomicBoolean(false);
 
   public WebDriverThreadLocalContainer() {
-    this(new BrowserHealthChecker());
+    this.browserHealthChecker = new BrowserHealthChecker(config);
   }
 
   WebDriverThreadLocalContainer(BrowserHealthChecker browserHealthChecker) {